@@ -0,0 +1,82 @@
+/* tslint:disable */
+/* eslint-disable */
+// Generated using typescript-generator version 3.2.1263 on 2026-10-18 18:25:18.
+
+export interface BinaryFile {
+    file: string;
+    size: number;
+    hash: string;
+}
+
+export interface CatalogCliArgument {
+    runtime: CatalogRuntime;
+    catalogVersion: string;
+}
+
+export interface CatalogDefinition {
+    name: string;
+    version: string;
+    runtime: CatalogRuntime;
+    catalogs: { [index: string]: CatalogDefinitionEntry };
+    schemas: { [index: string]: CatalogDefinitionEntry };
+    shards: { [index: string]: CatalogDefinitionEntry };
+}
+
+export interface CatalogDefinitionEntry {
+    name: string;
+    description: string;
+    version: string;
+    file: string;
+    compressed: { [index: string]: CompressedFile };
+    binary: { [index: string]: BinaryFile };
+}
+
+export interface CatalogLibrary {
+    definitions: CatalogLibraryEntry[];
+    version: number;
+    name: string;
+}
+
+export interface CatalogLibraryEntry {
+    name: string;
+    version: string;
+    runtime: string;
+    fileName: string;
+}
+
+export interface CompressedFile {
+    file: string;
+    size: number;
+    hash: string;
+}
+
+export interface Constants {
+}
+
+export interface KaotoFunction {
+    name: string;
+    displayName: string;
+    description: string;
+    returnType: string;
+    returnCollection: boolean;
+    arguments: KaotoFunctionArgument[];
+}
+
+export interface KaotoFunctionArgument {
+    name: string;
+    type: string;
+    displayName: string;
+    description: string;
+    minOccurs: number;
+    maxOccurs: number;
+}
+
+export interface MavenCoordinates {
+    groupId: string;
+    artifactId: string;
+    version: string;
+}
+
+export type RestResponse<R> = Promise<R>;
+
+export type CatalogRuntime = "Main" | "Quarkus" | "SpringBoot";
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import org.apache.camel.catalog.CamelCatalog;
+import org.apache.camel.catalog.DefaultCamelCatalog;
+import org.apache.camel.dsl.yaml.YamlRoutesBuilderLoader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * The inputs of the benchmarks, loaded once per benchmark JVM from the Camel catalog, Camel YAML DSL schema and
+ * Kamelets pinned in the {@code pom.xml}, so every benchmark run measures the same data.
+ * <p>
+ * The returned nodes are shared, the benchmarks which modify them have to work on a copy.
+ */
+public final class Fixtures {
+    private static final ObjectMapper jsonMapper = new ObjectMapper();
+    private static final ObjectMapper yamlMapper = new ObjectMapper(new YAMLFactory());
+
+    private Fixtures() {
+    }
+
+    public static CamelCatalog getCamelCatalog() {
+        return CamelCatalogHolder.CAMEL_CATALOG;
+    }
+
+    public static ObjectNode getCamelYamlDslSchema() {
+        return CamelYamlDslSchemaHolder.CAMEL_YAML_DSL_SCHEMA;
+    }
+
+    public static byte[] getCamelYamlDslSchemaBytes() {
+        return CamelYamlDslSchemaHolder.CAMEL_YAML_DSL_SCHEMA_BYTES;
+    }
+
+    public static ObjectNode getKubernetesOpenApiSpec() {
+        return KubernetesOpenApiSpecHolder.KUBERNETES_OPENAPI_SPEC;
+    }
+
+    /**
+     * @param name the Kamelet name, e.g. {@code aws-s3-source}
+     */
+    public static ObjectNode getKamelet(String name) {
+        try (var is = getResource(Fixtures.class.getClassLoader(), "kamelets/" + name + ".kamelet.yaml")) {
+            return (ObjectNode) yamlMapper.readTree(is);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static InputStream getResource(ClassLoader classLoader, String name) throws IOException {
+        var is = classLoader.getResourceAsStream(name);
+        if (is == null) {
+            throw new IOException("Cannot find " + name);
+        }
+        return is;
+    }
+
+    private static final class CamelCatalogHolder {
+        private static final CamelCatalog CAMEL_CATALOG = new DefaultCamelCatalog();
+    }
+
+    private static final class CamelYamlDslSchemaHolder {
+        private static final byte[] CAMEL_YAML_DSL_SCHEMA_BYTES;
+        private static final ObjectNode CAMEL_YAML_DSL_SCHEMA;
+
+        static {
+            try (var is = getResource(YamlRoutesBuilderLoader.class.getClassLoader(), "schema/camelYamlDsl.json")) {
+                CAMEL_YAML_DSL_SCHEMA_BYTES = is.readAllBytes();
+                CAMEL_YAML_DSL_SCHEMA = (ObjectNode) jsonMapper.readTree(CAMEL_YAML_DSL_SCHEMA_BYTES);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static final class KubernetesOpenApiSpecHolder {
+        private static final ObjectNode KUBERNETES_OPENAPI_SPEC;
+
+        static {
+            try (var is = getResource(Fixtures.class.getClassLoader(), "kubernetes-api-v1-openapi.json")) {
+                KUBERNETES_OPENAPI_SPEC = (ObjectNode) jsonMapper.readTree(is);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.kaoto.camelcatalog.benchmarks.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Processing a Kamelet. The processor modifies the Kamelet, so every invocation works on a fresh copy,
+ * {@link #copyKamelet()} measures that copy alone.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KameletProcessorBenchmark {
+    @Param({"beer-source", "aws-cloudwatch-sink", "google-storage-sink"})
+    String kameletName;
+
+    ObjectNode kamelet;
+
+    @Setup
+    public void setUp() {
+        kamelet = Fixtures.getKamelet(kameletName);
+    }
+
+    @Benchmark
+    public ObjectNode copyKamelet() {
+        return kamelet.deepCopy();
+    }
+
+    @Benchmark
+    public ObjectNode process() {
+        var copy = kamelet.deepCopy();
+        KameletProcessor.process(copy);
+        return copy;
+    }
+}
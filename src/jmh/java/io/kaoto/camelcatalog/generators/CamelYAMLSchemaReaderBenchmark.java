@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generators;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.kaoto.camelcatalog.benchmarks.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extracting the EIP and entity schemas from the Camel YAML DSL schema. A single reader is used per trial, like
+ * the generators do for a whole catalog, so its already inlined definitions are reused.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CamelYAMLSchemaReaderBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class EipState {
+        @Param({"setHeader", "choice", "marshal"})
+        String eipName;
+
+        CamelYAMLSchemaReader camelYAMLSchemaReader;
+        String javaType;
+
+        @Setup
+        public void setUp() throws Exception {
+            camelYAMLSchemaReader = new CamelYAMLSchemaReader(Fixtures.getCamelYamlDslSchema());
+            javaType = new CamelCatalogSchemaEnhancer(Fixtures.getCamelCatalog()).getJavaTypeByModelName(eipName);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class EntityState {
+        @Param({"route", "routeConfiguration", "rest", "beans"})
+        String entityName;
+
+        CamelYAMLSchemaReader camelYAMLSchemaReader;
+
+        @Setup
+        public void setUp() throws Exception {
+            camelYAMLSchemaReader = new CamelYAMLSchemaReader(Fixtures.getCamelYamlDslSchema());
+        }
+    }
+
+    @Benchmark
+    public ObjectNode getEIPJSONSchema(EipState state) {
+        return state.camelYAMLSchemaReader.getEIPJSONSchema(state.eipName, state.javaType);
+    }
+
+    @Benchmark
+    public ObjectNode getEntityJSONSchema(EntityState state) {
+        return state.camelYAMLSchemaReader.getEntityJSONSchema(state.entityName);
+    }
+}
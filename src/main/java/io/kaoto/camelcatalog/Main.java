@@ -25,7 +25,12 @@ public class Main {
         }
 
         GenerateCommand generateCommand = new GenerateCommand(configBean);
-        generateCommand.run();
+        try {
+            generateCommand.run();
+        } catch (Exception e) {
+            LOGGER.severe("Error: " + e.getMessage());
+            exitCode = EXIT_CODE_FAILURE;
+        }
 
         exit(exitCode);
     }
@@ -12,6 +12,17 @@ public class ConfigBean {
     private Set<CatalogCliArgument> catalogVersionSet = new LinkedHashSet<>();
     private String kameletsVersion;
     private boolean verbose = false;
+    private int jobs = 1;
+    private File cacheFolder;
+    private File buildFolder;
+    private long kubernetesSchemaTtlHours = 24;
+    private boolean kubernetesSchemaPinned = false;
+    private long catalogCacheSizeMb = 512;
+    private boolean definitionsPool = false;
+    private boolean compression = false;
+    private boolean sharded = false;
+    private boolean smile = false;
+    private boolean compact = false;
 
     public ConfigBean() {
     }
@@ -55,4 +66,92 @@ public class ConfigBean {
     public void setVerbose(boolean verbose) {
         this.verbose = verbose;
     }
+
+    public int getJobs() {
+        return jobs;
+    }
+
+    public void setJobs(int jobs) {
+        this.jobs = jobs;
+    }
+
+    public File getCacheFolder() {
+        return cacheFolder;
+    }
+
+    public void setCacheFolder(String cacheFolder) {
+        this.cacheFolder = new File(cacheFolder);
+    }
+
+    public File getBuildFolder() {
+        return buildFolder;
+    }
+
+    public void setBuildFolder(String buildFolder) {
+        this.buildFolder = new File(buildFolder);
+    }
+
+    public long getKubernetesSchemaTtlHours() {
+        return kubernetesSchemaTtlHours;
+    }
+
+    public void setKubernetesSchemaTtlHours(long kubernetesSchemaTtlHours) {
+        this.kubernetesSchemaTtlHours = kubernetesSchemaTtlHours;
+    }
+
+    public boolean isKubernetesSchemaPinned() {
+        return kubernetesSchemaPinned;
+    }
+
+    public void setKubernetesSchemaPinned(boolean kubernetesSchemaPinned) {
+        this.kubernetesSchemaPinned = kubernetesSchemaPinned;
+    }
+
+    public long getCatalogCacheSizeMb() {
+        return catalogCacheSizeMb;
+    }
+
+    public void setCatalogCacheSizeMb(long catalogCacheSizeMb) {
+        this.catalogCacheSizeMb = catalogCacheSizeMb;
+    }
+
+    public boolean isDefinitionsPool() {
+        return definitionsPool;
+    }
+
+    public void setDefinitionsPool(boolean definitionsPool) {
+        this.definitionsPool = definitionsPool;
+    }
+
+    public boolean isCompression() {
+        return compression;
+    }
+
+    public void setCompression(boolean compression) {
+        this.compression = compression;
+    }
+
+    public boolean isSharded() {
+        return sharded;
+    }
+
+    public void setSharded(boolean sharded) {
+        this.sharded = sharded;
+    }
+
+    public boolean isSmile() {
+        return smile;
+    }
+
+    public void setSmile(boolean smile) {
+        this.smile = smile;
+    }
+
+    public boolean isCompact() {
+        return compact;
+    }
+
+    public void setCompact(boolean compact) {
+        this.compact = compact;
+    }
 }
@@ -3,18 +3,47 @@ package io.kaoto.camelcatalog.commands;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import io.kaoto.camelcatalog.beans.ConfigBean;
+import io.kaoto.camelcatalog.generator.BuildManifest;
+import io.kaoto.camelcatalog.generator.CatalogShardWriter;
 import io.kaoto.camelcatalog.generator.CatalogGeneratorBuilder;
+import io.kaoto.camelcatalog.generator.ContentStore;
+import io.kaoto.camelcatalog.generator.GenerationReport;
+import io.kaoto.camelcatalog.generator.JsonWriterFactory;
+import io.kaoto.camelcatalog.generator.ProcessingCache;
+import io.kaoto.camelcatalog.generator.SizeReport;
+import io.kaoto.camelcatalog.generator.Util;
+import io.kaoto.camelcatalog.maven.KubernetesSchemaCache;
+import io.kaoto.camelcatalog.model.CatalogCliArgument;
 import io.kaoto.camelcatalog.model.CatalogDefinition;
 import io.kaoto.camelcatalog.model.CatalogLibrary;
 import org.apache.commons.io.FileUtils;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 public class GenerateCommand implements Runnable {
     private static final Logger LOGGER = Logger.getLogger(GenerateCommand.class.getName());
+    private static final String BUILDS_FOLDER_NAME = "builds";
     private final ConfigBean configBean;
+    private KubernetesSchemaCache kubernetesSchemaCache;
+    private ContentStore contentStore;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private BuildManifest previousManifest = new BuildManifest();
+    private final BuildManifest buildManifest = new BuildManifest();
+    private final GenerationReport generationReport = new GenerationReport();
 
     public GenerateCommand(ConfigBean configBean) {
         this.configBean = configBean;
@@ -24,51 +53,288 @@ public class GenerateCommand implements Runnable {
     public void run() {
         LOGGER.info("Output folder: " + configBean.getOutputFolder() + "\n" +
                 "Catalog versions: " + configBean.getCatalogVersionSet() + "\n" +
-                "Kamelets version: " + configBean.getKameletsVersion());
+                "Kamelets version: " + configBean.getKameletsVersion() + "\n" +
+                "Jobs: " + configBean.getJobs());
 
         CatalogLibrary library = new CatalogLibrary(2, configBean.getCatalogsName());
 
-        FileUtils.deleteQuietly(configBean.getOutputFolder());
+        /* Without a manifest from this same generator, nothing can be reused, so start from scratch */
+        File buildFolder = getBuildFolder();
+        var manifest = BuildManifest.read(buildFolder);
+        if (manifest == null || !manifest.isCurrentGeneratorVersion()) {
+            FileUtils.deleteQuietly(configBean.getOutputFolder());
+        } else {
+            previousManifest = manifest;
+        }
         File outputFolder = createSubFolder(configBean.getOutputFolder());
 
-        configBean.getCatalogVersionSet()
-                .forEach(catalogCliArg -> {
-                    String runtimeFolderName = "camel-" + catalogCliArg.getRuntime().name().toLowerCase();
-                    File runtimeFolder = createSubFolder(outputFolder, runtimeFolderName);
-                    File catalogDefinitionFolder = createSubFolder(runtimeFolder, catalogCliArg.getCatalogVersion());
+        /* The definitions are added following the CLI order, regardless of which catalog finished first */
+        List<CatalogCliArgument> catalogCliArgs = new ArrayList<>(configBean.getCatalogVersionSet());
+        List<CatalogDefinition> catalogDefinitions = new ArrayList<>(generateCatalogs(outputFolder));
+        List<CatalogCliArgument> failedCatalogs = new ArrayList<>();
+        for (int i = 0; i < catalogDefinitions.size(); i++) {
+            if (catalogDefinitions.get(i) == null) {
+                failedCatalogs.add(catalogCliArgs.get(i));
+                catalogDefinitions.set(i, keepPreviousBuild(outputFolder, catalogCliArgs.get(i)));
+            }
+        }
+        catalogDefinitions.forEach(catalogDefinition -> {
+            if (catalogDefinition != null) {
+                library.addDefinition(catalogDefinition);
+            }
+        });
+
+        /* Remove the catalogs from previous builds that aren't requested anymore */
+        Set<String> requestedCatalogFolders = catalogCliArgs.stream()
+                .map(GenerateCommand::getCatalogFolderName)
+                .collect(Collectors.toSet());
+        previousManifest.getCatalogs().keySet().stream()
+                .filter(catalogFolder -> !requestedCatalogFolders.contains(catalogFolder))
+                .forEach(catalogFolder -> FileUtils.deleteQuietly(new File(outputFolder, catalogFolder)));
+        removeUnreferencedFiles(outputFolder);
+
+        ObjectMapper jsonMapper = new ObjectMapper()
+                .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+        var indexFile = outputFolder.toPath().resolve("index.json").toFile();
+        try {
+            JsonWriterFactory.of(configBean.isCompact()).writer(jsonMapper).writeValue(indexFile, library);
+            /* The bookkeeping files are kept out of the published output folder */
+            createSubFolder(buildFolder);
+            buildManifest.write(buildFolder);
+            generationReport.write(buildFolder);
+            LOGGER.info("Generation report: " + buildFolder.toPath().resolve(GenerationReport.FILE_NAME));
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing index file", e);
+        }
+
+        if (configBean.isCompact()) {
+            reportSizes(outputFolder, catalogDefinitions);
+        }
+
+        /* The remaining catalogs are published, but the run still fails */
+        if (!failedCatalogs.isEmpty()) {
+            throw new RuntimeException("Catalogs couldn't be generated: " + failedCatalogs);
+        }
+    }
+
+    /**
+     * Log how many bytes every generated file takes pretty-printed, minified and compressed
+     */
+    private void reportSizes(File outputFolder, List<CatalogDefinition> catalogDefinitions) {
+        var sizeReport = new SizeReport();
+        try {
+            for (var catalogDefinition : catalogDefinitions) {
+                if (catalogDefinition != null) {
+                    sizeReport.addCatalog(outputFolder.toPath().resolve(catalogDefinition.getFileName()),
+                            catalogDefinition);
+                }
+            }
+            LOGGER.info("Generated file sizes, in bytes:\n" + sizeReport.format());
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Cannot measure the generated files", e);
+        }
+    }
 
-                    LOGGER.info("Generating catalog: " + catalogCliArg.getRuntime() + " "
-                            + catalogCliArg.getCatalogVersion() + "\n");
+    /**
+     * Generate every requested catalog version, using up to {@link ConfigBean#getJobs()} concurrent generators.
+     * A failing catalog version doesn't prevent the remaining ones from being generated, its slot is filled
+     * with {@code null} instead.
+     *
+     * @param outputFolder the root output folder
+     * @return the generated catalog definitions, in the same order as the requested catalog versions
+     */
+    List<CatalogDefinition> generateCatalogs(File outputFolder) {
+        List<CatalogCliArgument> catalogCliArgs = new ArrayList<>(configBean.getCatalogVersionSet());
+        /* A single cache per run, so every catalog version shares the same Kubernetes schema */
+        kubernetesSchemaCache = createKubernetesSchemaCache();
+        /* The generated files are shared by every catalog version, so identical files are only written once */
+        contentStore = new ContentStore(outputFolder.toPath().resolve(ContentStore.FOLDER_NAME),
+                createProcessingCache(), catalogCliArgs.size());
+        int jobs = Math.min(configBean.getJobs(), catalogCliArgs.size());
+        /* The processors are shared by the concurrent catalog versions, instead of each one using all of them */
+        parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() / Math.max(1, jobs));
 
-                    CatalogGeneratorBuilder builder = new CatalogGeneratorBuilder();
-                    var catalogGenerator = builder.withRuntime(catalogCliArg.getRuntime())
-                            .withCamelCatalogVersion(catalogCliArg.getCatalogVersion())
-                            .withKameletsVersion(configBean.getKameletsVersion())
-                            .withCamelKCRDsVersion("2.3.1")
-                            .withOutputDirectory(catalogDefinitionFolder)
-                            .withVerbose(configBean.isVerbose())
-                            .build();
+        if (jobs <= 1) {
+            return catalogCliArgs.stream()
+                    .map(catalogCliArg -> generateCatalog(outputFolder, catalogCliArg, new CatalogGeneratorBuilder()))
+                    .toList();
+        }
 
-                    CatalogDefinition catalogDefinition = catalogGenerator.generate();
-                    File indexFile = catalogDefinitionFolder.toPath().resolve(catalogDefinition.getFileName()).toFile();
-                    String relateIndexFile = outputFolder.toPath().relativize(indexFile.toPath()).toString().replace(File.separator, "/");
+        ExecutorService executor = Executors.newFixedThreadPool(jobs);
+        try {
+            /* The builders are created up front, on the calling thread, the generators then run on the pool */
+            List<Future<CatalogDefinition>> futures = new ArrayList<>();
+            for (var catalogCliArg : catalogCliArgs) {
+                CatalogGeneratorBuilder builder = new CatalogGeneratorBuilder();
+                futures.add(executor.submit(() -> generateCatalog(outputFolder, catalogCliArg, builder)));
+            }
 
+            List<CatalogDefinition> catalogDefinitions = new ArrayList<>();
+            for (int i = 0; i < futures.size(); i++) {
+                catalogDefinitions.add(getCatalogDefinition(futures.get(i), catalogCliArgs.get(i)));
+            }
 
-                    catalogDefinition.setFileName(relateIndexFile);
+            return catalogDefinitions;
+        } finally {
+            executor.shutdown();
+        }
+    }
 
-                    library.addDefinition(catalogDefinition);
-                });
+    private CatalogDefinition getCatalogDefinition(Future<CatalogDefinition> future, CatalogCliArgument catalogCliArg) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.log(Level.SEVERE, "Interrupted while generating catalog: " + catalogCliArg, e);
+        } catch (ExecutionException e) {
+            LOGGER.log(Level.SEVERE, "Error generating catalog: " + catalogCliArg, e.getCause());
+        }
 
-        ObjectMapper jsonMapper = new ObjectMapper()
-                .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+        return null;
+    }
+
+    /**
+     * Keep the previous build of a requested catalog which couldn't be generated this time, so its last good
+     * version stays published
+     *
+     * @return the previous catalog definition, or {@code null} when there's no usable previous build
+     */
+    private CatalogDefinition keepPreviousBuild(File outputFolder, CatalogCliArgument catalogCliArg) {
+        String catalogFolderName = getCatalogFolderName(catalogCliArg);
+        var previousBuild = previousManifest.getCatalogs().get(catalogFolderName);
+        var catalogDefinition = BuildManifest.readCatalogDefinition(previousBuild,
+                new File(outputFolder, catalogFolderName));
+        if (catalogDefinition == null) {
+            return null;
+        }
+
+        LOGGER.warning("Keeping the previous build of catalog: " + catalogCliArg);
+        catalogDefinition.setFileName(catalogFolderName + "/" + catalogDefinition.getFileName());
+        buildManifest.getCatalogs().put(catalogFolderName, previousBuild);
+        return catalogDefinition;
+    }
+
+    private static String getCatalogFolderName(CatalogCliArgument catalogCliArg) {
+        return "camel-" + catalogCliArg.getRuntime().name().toLowerCase() + "/" + catalogCliArg.getCatalogVersion();
+    }
+
+    private CatalogDefinition generateCatalog(File outputFolder, CatalogCliArgument catalogCliArg,
+            CatalogGeneratorBuilder builder) {
+        String catalogFolderName = getCatalogFolderName(catalogCliArg);
+        File catalogDefinitionFolder = createSubFolder(outputFolder, catalogFolderName);
+
+        LOGGER.info("Generating catalog: " + catalogCliArg.getRuntime() + " "
+                + catalogCliArg.getCatalogVersion() + "\n");
+
+        /* The generator holds the classloader and the jars of its version, they're released once it's generated */
+        try (var catalogGenerator = builder.withRuntime(catalogCliArg.getRuntime())
+                .withCamelCatalogVersion(catalogCliArg.getCatalogVersion())
+                .withKameletsVersion(configBean.getKameletsVersion())
+                .withCamelKCRDsVersion("2.3.1")
+                .withOutputDirectory(catalogDefinitionFolder)
+                .withVerbose(configBean.isVerbose())
+                .withKubernetesSchemaCache(kubernetesSchemaCache)
+                .withPreviousBuild(previousManifest.getCatalogs().get(catalogFolderName))
+                .withContentStore(contentStore)
+                .withDefinitionsPool(configBean.isDefinitionsPool())
+                .withCompression(configBean.isCompression())
+                .withSharded(configBean.isSharded())
+                .withSmile(configBean.isSmile())
+                .withCompact(configBean.isCompact())
+                .withParallelism(parallelism)
+                .build()) {
+            CatalogDefinition catalogDefinition = catalogGenerator.generate();
+            generationReport.addCatalog(catalogFolderName, catalogGenerator.getPhases());
+            if (catalogDefinition == null) {
+                LOGGER.severe("Catalog couldn't be generated: " + catalogCliArg);
+                return null;
+            }
+
+            File indexFile = catalogDefinitionFolder.toPath().resolve(catalogDefinition.getFileName()).toFile();
+            String relateIndexFile = outputFolder.toPath().relativize(indexFile.toPath()).toString().replace(File.separator, "/");
+
+
+            catalogDefinition.setFileName(relateIndexFile);
+            if (catalogGenerator.getCatalogBuild() != null) {
+                buildManifest.getCatalogs().put(catalogFolderName, catalogGenerator.getCatalogBuild());
+            }
+
+            return catalogDefinition;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error generating catalog: " + catalogCliArg, e);
+        }
+
+        return null;
+    }
+
+    /**
+     * Remove the files of the content store which aren't referenced by any of the generated catalogs
+     */
+    private void removeUnreferencedFiles(File outputFolder) {
+        List<Path> referencedFiles = new ArrayList<>();
 
-        var indexFile = outputFolder.toPath().resolve("index.json").toFile();
         try {
-            jsonMapper.writerWithDefaultPrettyPrinter().writeValue(indexFile, library);
+            for (var catalog : buildManifest.getCatalogs().entrySet()) {
+                var catalogFolder = outputFolder.toPath().resolve(catalog.getKey());
+                for (var aggregate : catalog.getValue().values()) {
+                    aggregate.entries()
+                            .filter(Objects::nonNull)
+                            .forEach(entry -> referencedFiles.add(catalogFolder.resolve(entry.file())));
+                    /* The shard files are only listed by their shard index */
+                    for (var shardIndex : aggregate.shards().values()) {
+                        if (shardIndex != null) {
+                            referencedFiles.addAll(
+                                    CatalogShardWriter.readShardFiles(catalogFolder.resolve(shardIndex.file())));
+                        }
+                    }
+                }
+            }
+
+            contentStore.retainOnly(referencedFiles);
         } catch (IOException e) {
-            throw new RuntimeException("Error writing index file", e);
+            LOGGER.log(Level.WARNING, "Cannot remove the unreferenced files of the content store", e);
+        }
+    }
+
+    private KubernetesSchemaCache createKubernetesSchemaCache() {
+        return new KubernetesSchemaCache(getCacheDirectory(),
+                Duration.ofHours(configBean.getKubernetesSchemaTtlHours()), configBean.isKubernetesSchemaPinned());
+    }
+
+    /**
+     * The processed catalogs are cached next to the downloaded resources, unless the cache is disabled
+     */
+    private ProcessingCache createProcessingCache() {
+        if (configBean.getCatalogCacheSizeMb() == 0) {
+            return null;
         }
 
+        return new ProcessingCache(getCacheDirectory().resolve(ProcessingCache.FOLDER_NAME),
+                configBean.getCatalogCacheSizeMb() * 1024 * 1024);
+    }
+
+    /**
+     * The folder of the build manifest and the generation report, by default a folder of the cache directory
+     * named after the output folder
+     */
+    private File getBuildFolder() {
+        if (configBean.getBuildFolder() != null) {
+            return configBean.getBuildFolder();
+        }
+
+        try {
+            var outputFolder = configBean.getOutputFolder().toPath().toAbsolutePath().normalize().toString();
+            return getCacheDirectory().resolve(BUILDS_FOLDER_NAME).resolve(Util.generateHash(outputFolder)).toFile();
+        } catch (Exception e) {
+            throw new RuntimeException("Cannot name the build folder of " + configBean.getOutputFolder(), e);
+        }
+    }
+
+    private Path getCacheDirectory() {
+        return configBean.getCacheFolder() == null
+                ? KubernetesSchemaCache.DEFAULT_CACHE_DIRECTORY
+                : configBean.getCacheFolder().toPath();
     }
 
     private File createSubFolder(File parentFolder, String folderName) {
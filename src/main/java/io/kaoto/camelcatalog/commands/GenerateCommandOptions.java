@@ -53,6 +53,43 @@ public class GenerateCommandOptions {
         Option verboseOption = Option.builder().argName("v").option("v").longOpt("verbose")
                 .desc("Be more verbose")
                 .build();
+        Option jobsOption = Option.builder().argName("jobs").option("j").longOpt("jobs")
+                .desc("Number of catalog versions to generate concurrently. Defaults to 1")
+                .hasArg().build();
+        Option cacheDirOption = Option.builder().argName("cacheDir").longOpt("cache-dir")
+                .desc("Directory where downloaded resources are cached. Defaults to ~/.cache/kaoto/catalog-generator")
+                .hasArg().build();
+        Option buildDirOption = Option.builder().argName("buildDir").longOpt("build-dir")
+                .desc("Directory where the build manifest and the generation report are written, outside the "
+                        + "published catalogs. Defaults to a folder per output folder in the cache directory")
+                .hasArg().build();
+        Option kubernetesSchemaTtlOption = Option.builder().argName("hours").longOpt("k8s-schema-ttl")
+                .desc("Hours before the cached Kubernetes OpenAPI specification is downloaded again. Defaults to 24")
+                .hasArg().build();
+        Option kubernetesSchemaPinnedOption = Option.builder().longOpt("k8s-schema-pinned")
+                .desc("Never download the Kubernetes OpenAPI specification, use the cached or bundled copy instead")
+                .build();
+        Option catalogCacheSizeOption = Option.builder().argName("megabytes").longOpt("catalog-cache-size")
+                .desc("Maximum size of the processed catalogs cached between runs, 0 disables the cache. "
+                        + "Defaults to 512")
+                .hasArg().build();
+        Option definitionsPoolOption = Option.builder().longOpt("definitions-pool")
+                .desc("Write the schema definitions once per catalog version and reference them from the catalogs, "
+                        + "instead of inlining them into every schema")
+                .build();
+        Option compressOption = Option.builder().longOpt("compress")
+                .desc("Write a gzip compressed copy next to every generated file, to be served as is")
+                .build();
+        Option shardedOption = Option.builder().longOpt("sharded")
+                .desc("Write every component, pattern, entity and Kamelet into its own file as well, "
+                        + "along with an index per kind, so they can be loaded on demand")
+                .build();
+        Option smileOption = Option.builder().longOpt("smile")
+                .desc("Write a Smile encoded copy next to every aggregated catalog and schema, for JVM consumers")
+                .build();
+        Option compactOption = Option.builder().longOpt("compact")
+                .desc("Write minified JSON files instead of pretty-printed ones, and report the saved bytes")
+                .build();
 
         options.addOption(outputOption);
         options.addOption(catalogsNameOption);
@@ -61,12 +98,40 @@ public class GenerateCommandOptions {
         options.addOption(camelQuarkusVersionOption);
         options.addOption(camelSpringbootVersionOption);
         options.addOption(verboseOption);
+        options.addOption(jobsOption);
+        options.addOption(cacheDirOption);
+        options.addOption(buildDirOption);
+        options.addOption(kubernetesSchemaTtlOption);
+        options.addOption(kubernetesSchemaPinnedOption);
+        options.addOption(catalogCacheSizeOption);
+        options.addOption(definitionsPoolOption);
+        options.addOption(compressOption);
+        options.addOption(shardedOption);
+        options.addOption(smileOption);
+        options.addOption(compactOption);
 
         CommandLineParser parser = new DefaultParser();
         CommandLine cmd = parser.parse(options, args);
         configBean.setOutputFolder(Util.getNormalizedFolder(cmd.getOptionValue(outputOption.getOpt())));
         configBean.setCatalogsName(cmd.getOptionValue(catalogsNameOption.getOpt()));
         configBean.setKameletsVersion(cmd.getOptionValue(kameletsVersionOption.getOpt()));
+        configBean.setJobs(getJobs(cmd.getOptionValue(jobsOption.getOpt(), "1")));
+        if (cmd.hasOption(cacheDirOption.getLongOpt())) {
+            configBean.setCacheFolder(Util.getNormalizedFolder(cmd.getOptionValue(cacheDirOption.getLongOpt())));
+        }
+        if (cmd.hasOption(buildDirOption.getLongOpt())) {
+            configBean.setBuildFolder(Util.getNormalizedFolder(cmd.getOptionValue(buildDirOption.getLongOpt())));
+        }
+        configBean.setKubernetesSchemaTtlHours(
+                getKubernetesSchemaTtlHours(cmd.getOptionValue(kubernetesSchemaTtlOption.getLongOpt(), "24")));
+        configBean.setKubernetesSchemaPinned(cmd.hasOption(kubernetesSchemaPinnedOption.getLongOpt()));
+        configBean.setCatalogCacheSizeMb(
+                getCatalogCacheSizeMb(cmd.getOptionValue(catalogCacheSizeOption.getLongOpt(), "512")));
+        configBean.setDefinitionsPool(cmd.hasOption(definitionsPoolOption.getLongOpt()));
+        configBean.setCompression(cmd.hasOption(compressOption.getLongOpt()));
+        configBean.setSharded(cmd.hasOption(shardedOption.getLongOpt()));
+        configBean.setSmile(cmd.hasOption(smileOption.getLongOpt()));
+        configBean.setCompact(cmd.hasOption(compactOption.getLongOpt()));
 
         addRuntimeVersions(configBean, cmd, camelMainVersionOption, CatalogRuntime.Main);
         addRuntimeVersions(configBean, cmd, camelQuarkusVersionOption, CatalogRuntime.Quarkus);
@@ -82,6 +147,52 @@ public class GenerateCommandOptions {
         formatter.printHelp("catalog-generator", this.options);
     }
 
+    private int getJobs(String jobsValue) throws ParseException {
+        int jobs;
+        try {
+            jobs = Integer.parseInt(jobsValue);
+        } catch (NumberFormatException e) {
+            jobs = 0;
+        }
+
+        if (jobs < 1) {
+            throw new ParseException("Invalid number of jobs: " + jobsValue + ". It should be a positive integer");
+        }
+
+        return jobs;
+    }
+
+    private long getKubernetesSchemaTtlHours(String ttlValue) throws ParseException {
+        long ttl;
+        try {
+            ttl = Long.parseLong(ttlValue);
+        } catch (NumberFormatException e) {
+            ttl = -1;
+        }
+
+        if (ttl < 0) {
+            throw new ParseException("Invalid Kubernetes schema TTL: " + ttlValue + ". It should be a number of hours");
+        }
+
+        return ttl;
+    }
+
+    private long getCatalogCacheSizeMb(String sizeValue) throws ParseException {
+        long size;
+        try {
+            size = Long.parseLong(sizeValue);
+        } catch (NumberFormatException e) {
+            size = -1;
+        }
+
+        if (size < 0) {
+            throw new ParseException(
+                    "Invalid catalog cache size: " + sizeValue + ". It should be a number of megabytes");
+        }
+
+        return size;
+    }
+
     private void addRuntimeVersions(ConfigBean configBean, CommandLine cmd, Option option,
             CatalogRuntime runtime) {
         String[] versions = cmd.getOptionValues(option.getOpt());
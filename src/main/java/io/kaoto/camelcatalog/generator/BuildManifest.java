@@ -0,0 +1,217 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.kaoto.camelcatalog.model.CatalogDefinition;
+import io.kaoto.camelcatalog.model.CatalogDefinitionEntry;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Records the fingerprint of the inputs used to generate every aggregate of every catalog, so a subsequent run
+ * can reuse the aggregates whose inputs didn't change instead of generating them again.
+ * <p>
+ * The manifest is written into the build folder, out of the published output folder, the catalogs are keyed by
+ * their folder, relative to the output folder.
+ */
+public class BuildManifest {
+    private static final Logger LOGGER = Logger.getLogger(BuildManifest.class.getName());
+    public static final String FILE_NAME = "build-manifest.json";
+    /* The index of a catalog is recorded along with its aggregates, its fingerprint covers the whole catalog */
+    public static final String INDEX = "index";
+
+    private static final ObjectMapper jsonMapper = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+    private static String currentGeneratorVersion;
+
+    private String generatorVersion = getCurrentGeneratorVersion();
+    private final Map<String, Map<String, AggregateBuild>> catalogs = new ConcurrentSkipListMap<>();
+
+    public String getGeneratorVersion() {
+        return generatorVersion;
+    }
+
+    public void setGeneratorVersion(String generatorVersion) {
+        this.generatorVersion = generatorVersion;
+    }
+
+    public Map<String, Map<String, AggregateBuild>> getCatalogs() {
+        return catalogs;
+    }
+
+    /**
+     * Whether the manifest was written by this same generator, otherwise none of its aggregates can be reused
+     */
+    @JsonIgnore
+    public boolean isCurrentGeneratorVersion() {
+        return Objects.equals(generatorVersion, getCurrentGeneratorVersion());
+    }
+
+    /**
+     * Read the manifest from the given build folder
+     *
+     * @return the manifest or null if there's none or it can't be read
+     */
+    public static BuildManifest read(File buildFolder) {
+        var manifestFile = buildFolder.toPath().resolve(FILE_NAME).toFile();
+        if (!manifestFile.isFile()) {
+            return null;
+        }
+
+        try {
+            return jsonMapper.readValue(manifestFile, BuildManifest.class);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Cannot read the build manifest, generating all the catalogs: " + e);
+            return null;
+        }
+    }
+
+    public void write(File buildFolder) throws IOException {
+        jsonMapper.writerWithDefaultPrettyPrinter().writeValue(buildFolder.toPath().resolve(FILE_NAME).toFile(), this);
+    }
+
+    /**
+     * Read the index of a built catalog, when every file of the catalog is still available
+     *
+     * @param catalogBuild  the aggregates of the catalog, along with its index
+     * @param catalogFolder the folder of the catalog
+     * @return the catalog definition, its file name relative to the catalog folder, or null if it can't be read
+     */
+    public static CatalogDefinition readCatalogDefinition(Map<String, AggregateBuild> catalogBuild,
+            File catalogFolder) {
+        var index = catalogBuild == null ? null : catalogBuild.get(INDEX);
+        if (index == null || index.catalogs().get(INDEX) == null
+                || !catalogBuild.values().stream().allMatch(aggregate -> aggregate.isAvailableIn(catalogFolder))) {
+            return null;
+        }
+
+        try {
+            var indexFileName = index.catalogs().get(INDEX).file();
+            var catalogDefinition = jsonMapper.readValue(new File(catalogFolder, indexFileName), CatalogDefinition.class);
+            catalogDefinition.setFileName(indexFileName);
+            return catalogDefinition;
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Cannot read the catalog index of " + catalogFolder + ": " + e);
+            return null;
+        }
+    }
+
+    /**
+     * Compute the fingerprint of a set of inputs, the generator version is always part of it
+     */
+    static String fingerprint(List<?> inputs) throws Exception {
+        var content = new StringBuilder(getCurrentGeneratorVersion());
+        for (var input : inputs) {
+            content.append('\n').append(Util.generateHash(String.valueOf(input)));
+        }
+        return Util.generateHash(content.toString());
+    }
+
+    /**
+     * The generator version, along with the content of its classes, so a rebuilt generator doesn't reuse the
+     * aggregates of a different code, while rebuilding the same code keeps reusing them
+     */
+    static synchronized String getCurrentGeneratorVersion() {
+        if (currentGeneratorVersion == null) {
+            try {
+                var codeSource = Path.of(BuildManifest.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+                currentGeneratorVersion = getGeneratorVersion(
+                        BuildManifest.class.getPackage().getImplementationVersion(), codeSource);
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Cannot fingerprint the generator, incremental builds are disabled: " + e);
+                currentGeneratorVersion = String.valueOf(System.nanoTime());
+            }
+        }
+
+        return currentGeneratorVersion;
+    }
+
+    /**
+     * Fingerprint the generator from its classes folder, or from its jar, using the CRC of every entry instead of
+     * the jar bytes, as the entries timestamps change on every build
+     *
+     * @param codeSource the classes folder or the jar of the generator
+     */
+    static String getGeneratorVersion(String implementationVersion, Path codeSource) throws Exception {
+        var content = new StringBuilder(String.valueOf(implementationVersion));
+
+        if (Files.isRegularFile(codeSource)) {
+            try (var jarFile = new ZipFile(codeSource.toFile())) {
+                for (var entry : jarFile.stream().filter(entry -> !entry.isDirectory())
+                        .sorted(Comparator.comparing(ZipEntry::getName)).toList()) {
+                    content.append('\n').append(entry.getName()).append(':').append(entry.getCrc());
+                }
+            }
+        } else {
+            try (Stream<Path> files = Files.walk(codeSource)) {
+                for (var file : files.filter(Files::isRegularFile).sorted().toList()) {
+                    content.append('\n').append(codeSource.relativize(file).toString().replace(File.separator, "/"))
+                            .append(':').append(Util.generateHash(file));
+                }
+            }
+        }
+
+        return Util.generateHash(content.toString());
+    }
+
+    /**
+     * The fingerprint of the inputs of an aggregate, and the entries it contributed to the catalog definition
+     */
+    public record AggregateBuild(String fingerprint, Map<String, CatalogDefinitionEntry> catalogs,
+            Map<String, CatalogDefinitionEntry> schemas, Map<String, CatalogDefinitionEntry> shards) {
+        public AggregateBuild {
+            catalogs = catalogs == null ? new TreeMap<>() : new TreeMap<>(catalogs);
+            schemas = schemas == null ? new TreeMap<>() : new TreeMap<>(schemas);
+            shards = shards == null ? new TreeMap<>() : new TreeMap<>(shards);
+        }
+
+        public AggregateBuild(String fingerprint, Map<String, CatalogDefinitionEntry> catalogs,
+                Map<String, CatalogDefinitionEntry> schemas) {
+            this(fingerprint, catalogs, schemas, null);
+        }
+
+        /**
+         * Every entry contributed to the catalog definition
+         */
+        public Stream<CatalogDefinitionEntry> entries() {
+            return Stream.of(catalogs, schemas, shards).flatMap(entries -> entries.values().stream());
+        }
+
+        /**
+         * Whether every file generated for this aggregate still exists in the given folder
+         */
+        boolean isAvailableIn(File folder) {
+            return entries().allMatch(entry -> entry != null && new File(folder, entry.file()).isFile());
+        }
+    }
+}
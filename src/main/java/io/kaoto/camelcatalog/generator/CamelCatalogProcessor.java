@@ -15,7 +15,6 @@
  */
 package io.kaoto.camelcatalog.generator;
 
-import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.kaoto.camelcatalog.generators.ComponentGenerator;
@@ -30,8 +29,8 @@ import org.apache.camel.tooling.model.EipModel.EipOptionModel;
 import org.apache.camel.tooling.model.JsonMapper;
 import org.apache.camel.tooling.model.Kind;
 
-import java.io.StringWriter;
 import java.util.*;
+import java.util.concurrent.Callable;
 
 /**
  * Customize Camel Catalog for Kaoto.
@@ -43,48 +42,210 @@ public class CamelCatalogProcessor {
     private final CamelYamlDslSchemaProcessor schemaProcessor;
     private final CamelCatalogVersionLoader camelCatalogVersionLoader;
     private final CatalogRuntime runtime;
+    private final PhaseRecorder phaseRecorder;
+    private final ContentStore contentStore;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
 
     public CamelCatalogProcessor(CamelCatalog camelCatalog, ObjectMapper jsonMapper,
                                  CamelYamlDslSchemaProcessor schemaProcessor, CatalogRuntime runtime,
                                  CamelCatalogVersionLoader camelCatalogVersionLoader) {
+        this(camelCatalog, jsonMapper, schemaProcessor, runtime, camelCatalogVersionLoader, new PhaseRecorder());
+    }
+
+    /**
+     * @param phaseRecorder records every generator as a {@code processCatalog/<name>} phase
+     */
+    public CamelCatalogProcessor(CamelCatalog camelCatalog, ObjectMapper jsonMapper,
+                                 CamelYamlDslSchemaProcessor schemaProcessor, CatalogRuntime runtime,
+                                 CamelCatalogVersionLoader camelCatalogVersionLoader, PhaseRecorder phaseRecorder) {
+        this(camelCatalog, jsonMapper, schemaProcessor, runtime, camelCatalogVersionLoader, phaseRecorder, null);
+    }
+
+    /**
+     * @param phaseRecorder records every generator as a {@code processCatalog/<name>} phase
+     * @param contentStore  when present, the catalogs are processed once for all the catalogs of the run sharing
+     *                      the same inputs, e.g. the models of Main and Spring Boot, and for the next runs when
+     *                      it's backed by a {@link ProcessingCache}
+     */
+    public CamelCatalogProcessor(CamelCatalog camelCatalog, ObjectMapper jsonMapper,
+                                 CamelYamlDslSchemaProcessor schemaProcessor, CatalogRuntime runtime,
+                                 CamelCatalogVersionLoader camelCatalogVersionLoader, PhaseRecorder phaseRecorder,
+                                 ContentStore contentStore) {
         this.jsonMapper = jsonMapper;
         this.camelCatalog = camelCatalog;
         this.schemaProcessor = schemaProcessor;
         this.runtime = runtime;
         this.camelCatalogVersionLoader = camelCatalogVersionLoader;
+        this.phaseRecorder = phaseRecorder;
+        this.contentStore = contentStore;
+    }
+
+    /**
+     * @param parallelism the maximum number of generators running at the same time, the available processors
+     *                    by default
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
     }
 
     /**
      * Create Camel catalogs customized for Kaoto usage.
      *
-     * @return
+     * @return the catalogs keyed by name, always in the same order
+     */
+    public Map<String, ObjectNode> processCatalog() throws Exception {
+        return processCatalog((name, catalog) -> catalog);
+    }
+
+    /**
+     * Create Camel catalogs customized for Kaoto usage, handing every catalog to the given sink as soon as it's
+     * created, so it can be written and released without waiting for the others.
+     * <p>
+     * The generators only read the shared Camel catalog and Camel YAML DSL schema, so they run concurrently
+     * and the time needed is bounded by the slowest one.
+     *
+     * @param sink receives every catalog, e.g. to write it to a file
+     * @return the sink results keyed by catalog name, always in the same order
+     */
+    public <T> Map<String, T> processCatalog(CatalogSink<T> sink) throws Exception {
+        /* The largest inputs are hashed once, instead of once for every catalog processed from them */
+        var yamlDslSchemaHash = contentStore == null ? null : Util.generateHash(getCamelYamlDslSchema());
+        var modelSchemasHash = contentStore == null ? null : Util.generateHash(String.valueOf(getModelSchemas()));
+
+        var scheduler = new CatalogTaskScheduler<T>()
+                .addTask("components", measured("components", () -> sink.accept("components",
+                        processCached("components",
+                                () -> toObjectNode(new ComponentGenerator(camelCatalog, runtime).generate()),
+                                () -> Arrays.asList(runtime, getComponentSchemas(), modelSchemasHash,
+                                        camelCatalog.otherJSonSchema("debug"))))))
+                .addTask("dataformats", measured("dataformats", () -> sink.accept("dataformats",
+                        processShared("dataformats", this::getDataFormatCatalog,
+                                () -> Arrays.asList(yamlDslSchemaHash, modelSchemasHash,
+                                        getDataFormatNames())))))
+                .addTask("languages", measured("languages", () -> sink.accept("languages",
+                        processShared("languages", this::getLanguageCatalog,
+                                () -> Arrays.asList(yamlDslSchemaHash, modelSchemasHash,
+                                        getLanguageNames())))))
+                .addTask("models", measured("models", () -> sink.accept("models",
+                        processShared("models", this::getModelCatalog, () -> Arrays.asList(modelSchemasHash)))))
+                .addTask("patterns", measured("patterns", () -> sink.accept("patterns",
+                        processShared("patterns", () -> {
+                            EIPGenerator eipGenerator = new EIPGenerator(camelCatalog,
+                                    camelCatalogVersionLoader.getCamelYamlDslSchema(),
+                                    camelCatalogVersionLoader.getKaotoPatterns());
+                            return toObjectNode(eipGenerator.generate());
+                        }, () -> Arrays.asList(camelCatalog.getLoadedVersion(), yamlDslSchemaHash,
+                                modelSchemasHash, new TreeMap<>(camelCatalogVersionLoader.getKaotoPatterns()))))))
+                .addTask("entities", measured("entities", () -> sink.accept("entities",
+                        processShared("entities", () -> {
+                            EntityGenerator entityGenerator = new EntityGenerator(camelCatalog,
+                                    camelCatalogVersionLoader.getCamelYamlDslSchema(),
+                                    camelCatalogVersionLoader.getKubernetesSchema(),
+                                    camelCatalogVersionLoader.getLocalSchemas());
+                            return toObjectNode(entityGenerator.generate());
+                        }, () -> Arrays.asList(camelCatalog.getLoadedVersion(), yamlDslSchemaHash,
+                                modelSchemasHash, camelCatalogVersionLoader.getKubernetesSchema(),
+                                new TreeMap<>(camelCatalogVersionLoader.getLocalSchemas()))))))
+                .addTask("loadbalancers", measured("loadbalancers", () -> sink.accept("loadbalancers",
+                        processShared("loadbalancers", this::getLoadBalancerCatalog,
+                                () -> Arrays.asList(yamlDslSchemaHash, modelSchemasHash)))))
+                .addTask("functions", measured("functions", () -> sink.accept("functions",
+                        processShared("functions",
+                                () -> toObjectNode(new FunctionsGenerator(camelCatalog, camelCatalogVersionLoader)
+                                        .generate()),
+                                () -> Arrays.asList(getLanguageFunctions())))));
+
+        return scheduler.run(parallelism);
+    }
+
+    /**
+     * Record the task as a phase of the thread running it, and as a Flight Recorder event, the sink included
+     */
+    private <T> Callable<T> measured(String name, Callable<T> task) {
+        return () -> {
+            var event = new CatalogGeneratorEvent();
+            event.begin();
+            try {
+                var result = phaseRecorder.measure("processCatalog/" + name, task::call);
+                event.success = true;
+                return result;
+            } finally {
+                if (event.shouldCommit()) {
+                    event.runtime = String.valueOf(runtime);
+                    event.catalogVersion = camelCatalog.getCatalogVersion();
+                    event.generator = name;
+                    event.commit();
+                }
+            }
+        };
+    }
+
+    /**
+     * Process the catalog, unless another catalog of this run, or a previous run, already processed it from the
+     * same inputs. The inputs are the content the catalog is processed from, rather than the runtime and version,
+     * as the Camel catalogs of different runtimes share most of their models.
+     */
+    private ObjectNode processShared(String name, Callable<ObjectNode> processor, Callable<List<?>> inputs)
+            throws Exception {
+        if (contentStore == null) {
+            return processor.call();
+        }
+        return contentStore.getOrProcess(name + ":" + BuildManifest.fingerprint(inputs.call()), processor);
+    }
+
+    /**
+     * Process the catalog, unless a previous run already processed it from the same inputs, for the catalogs which
+     * depend on the runtime, so no other catalog of this run can share them
      */
-    public Map<String, String> processCatalog() throws Exception {
-        var answer = new LinkedHashMap<String, String>();
-        ComponentGenerator componentGenerator = new ComponentGenerator(camelCatalog, runtime);
-        var componentCatalog = Util.getPrettyJSON(componentGenerator.generate());
-        var dataFormatCatalog = getDataFormatCatalog();
-        var languageCatalog = getLanguageCatalog();
-        var modelCatalog = getModelCatalog();
-        EIPGenerator eipGenerator = new EIPGenerator(camelCatalog, camelCatalogVersionLoader.getCamelYamlDslSchema(),
-                camelCatalogVersionLoader.getKaotoPatterns());
-        var patternCatalog = Util.getPrettyJSON(eipGenerator.generate());
-        EntityGenerator entityGenerator = new EntityGenerator(camelCatalog,
-                camelCatalogVersionLoader.getCamelYamlDslSchema(),
-                camelCatalogVersionLoader.getKubernetesSchema(),
-                camelCatalogVersionLoader.getLocalSchemas());
-        var entityCatalog = Util.getPrettyJSON(entityGenerator.generate());
-        var loadBalancerCatalog = getLoadBalancerCatalog();
-        var functionsCatalog = Util.getPrettyJSON(new FunctionsGenerator(camelCatalog, camelCatalogVersionLoader).generate());
-
-        answer.put("components", componentCatalog);
-        answer.put("dataformats", dataFormatCatalog);
-        answer.put("languages", languageCatalog);
-        answer.put("models", modelCatalog);
-        answer.put("patterns", patternCatalog);
-        answer.put("entities", entityCatalog);
-        answer.put("loadbalancers", loadBalancerCatalog);
-        answer.put("functions", functionsCatalog);
+    private ObjectNode processCached(String name, Callable<ObjectNode> processor, Callable<List<?>> inputs)
+            throws Exception {
+        if (contentStore == null) {
+            return processor.call();
+        }
+        return contentStore.getOrProcessCached(name + ":" + BuildManifest.fingerprint(inputs.call()), processor);
+    }
+
+    private String getCamelYamlDslSchema() {
+        return camelCatalogVersionLoader.getCamelYamlDslSchema();
+    }
+
+    private List<String> getComponentSchemas() {
+        return camelCatalog.findComponentNames().stream().filter(name -> !name.isEmpty()).sorted()
+                .map(camelCatalog::componentJSonSchema).toList();
+    }
+
+    private List<String> getModelSchemas() {
+        return camelCatalog.findModelNames().stream().sorted().map(camelCatalog::modelJSonSchema).toList();
+    }
+
+    /**
+     * The names the languages are looked up with in the models, their Maven coordinates depend on the runtime
+     */
+    private List<String> getLanguageNames() {
+        return camelCatalog.findLanguageNames().stream().sorted()
+                .map(name -> name + ":" + camelCatalog.languageModel(name).getName()).toList();
+    }
+
+    private List<String> getLanguageFunctions() throws Exception {
+        var languageFunctions = new ArrayList<String>();
+        for (var name : camelCatalog.findLanguageNames().stream().sorted().toList()) {
+            languageFunctions.add(name + ":"
+                    + jsonMapper.writeValueAsString(camelCatalog.languageModel(name).getFunctions()));
+        }
+        return languageFunctions;
+    }
+
+    /**
+     * The names the data formats are looked up with in the models, their Maven coordinates depend on the runtime
+     */
+    private List<String> getDataFormatNames() {
+        return camelCatalog.findDataFormatNames().stream().sorted()
+                .map(name -> name + ":" + camelCatalog.dataFormatModel(name).getName()).toList();
+    }
+
+    private ObjectNode toObjectNode(Map<String, ObjectNode> catalog) {
+        var answer = jsonMapper.createObjectNode();
+        answer.setAll(catalog);
         return answer;
     }
 
@@ -94,7 +255,7 @@ public class CamelCatalogProcessor {
      * @return
      * @throws Exception
      */
-    public String getDataFormatCatalog() throws Exception {
+    public ObjectNode getDataFormatCatalog() throws Exception {
         var catalogMap = new LinkedHashMap<String, EipModel>();
         for (var name : camelCatalog.findDataFormatNames()) {
             var modelCatalog = camelCatalog.dataFormatModel(name);
@@ -106,10 +267,8 @@ public class CamelCatalogProcessor {
             var dataFormatName = entry.getKey();
             var dataFormatSchema = entry.getValue();
             EipModel eipModel = catalogMap.get(dataFormatName);
-            List<EipOptionModel> eipModelOptions = Arrays.asList();
-            if (eipModel != null) {
-                eipModelOptions = eipModel.getOptions();
-            }
+            ModelOptionsIndex<EipOptionModel> eipModelOptions = eipModel != null
+                    ? new ModelOptionsIndex<>(eipModel.getOptions()) : new ModelOptionsIndex<>(List.of());
 
             sortPropertiesAccordingToCamelCatalog(dataFormatSchema, eipModelOptions);
 
@@ -124,11 +283,7 @@ public class CamelCatalogProcessor {
             setRequiredToPropertiesSchema(dataFormatSchema, catalogTree);
             answer.set(dataFormatName, catalogTree);
         }
-        StringWriter writer = new StringWriter();
-        try (var jsonGenerator = new JsonFactory().createGenerator(writer).useDefaultPrettyPrinter()) {
-            jsonMapper.writeTree(jsonGenerator, answer);
-        }
-        return writer.toString();
+        return answer;
     }
 
     /**
@@ -137,7 +292,7 @@ public class CamelCatalogProcessor {
      * @return
      * @throws Exception
      */
-    public String getLanguageCatalog() throws Exception {
+    public ObjectNode getLanguageCatalog() throws Exception {
         var answer = jsonMapper.createObjectNode();
         var languageSchemaMap = schemaProcessor.getLanguages();
         var catalogMap = new LinkedHashMap<String, EipModel>();
@@ -149,10 +304,8 @@ public class CamelCatalogProcessor {
             var languageName = entry.getKey();
             var languageSchema = entry.getValue();
             EipModel eipModel = catalogMap.get(languageName);
-            List<EipOptionModel> eipModelOptions = Arrays.asList();
-            if (eipModel != null) {
-                eipModelOptions = eipModel.getOptions();
-            }
+            ModelOptionsIndex<EipOptionModel> eipModelOptions = eipModel != null
+                    ? new ModelOptionsIndex<>(eipModel.getOptions()) : new ModelOptionsIndex<>(List.of());
 
             sortPropertiesAccordingToCamelCatalog(languageSchema, eipModelOptions);
 
@@ -167,14 +320,10 @@ public class CamelCatalogProcessor {
             setRequiredToPropertiesSchema(languageSchema, catalogTree);
             answer.set(languageName, catalogTree);
         }
-        StringWriter writer = new StringWriter();
-        try (var jsonGenerator = new JsonFactory().createGenerator(writer).useDefaultPrettyPrinter()) {
-            jsonMapper.writeTree(jsonGenerator, answer);
-        }
-        return writer.toString();
+        return answer;
     }
 
-    public String getModelCatalog() throws Exception {
+    public ObjectNode getModelCatalog() throws Exception {
         var answer = jsonMapper.createObjectNode();
         camelCatalog.findModelNames().stream().sorted().forEach(name -> {
             try {
@@ -187,15 +336,11 @@ public class CamelCatalogProcessor {
                 throw new RuntimeException(e);
             }
         });
-        StringWriter writer = new StringWriter();
-        try (var jsonGenerator = new JsonFactory().createGenerator(writer).useDefaultPrettyPrinter()) {
-            jsonMapper.writeTree(jsonGenerator, answer);
-        }
-        return writer.toString();
+        return answer;
     }
 
     private void sortPropertiesAccordingToCamelCatalog(ObjectNode entitySchema,
-                                                       List<EipOptionModel> entityCatalogOptions) {
+                                                       ModelOptionsIndex<EipOptionModel> entityCatalogOptions) {
         var sortedSchemaProperties = jsonMapper.createObjectNode();
         var camelYamlDslProperties = entitySchema.withObject("/properties").properties().stream().map(Map.Entry::getKey)
                 .sorted(
@@ -216,7 +361,7 @@ public class CamelCatalogProcessor {
      * @return
      * @throws Exception
      */
-    public String getLoadBalancerCatalog() throws Exception {
+    public ObjectNode getLoadBalancerCatalog() throws Exception {
         var answer = jsonMapper.createObjectNode();
         var loadBalancerSchemaMap = schemaProcessor.getLoadBalancers();
         for (var entry : loadBalancerSchemaMap.entrySet()) {
@@ -233,10 +378,7 @@ public class CamelCatalogProcessor {
             setRequiredToPropertiesSchema(loadBalancerSchema, catalogTree);
             answer.set(loadBalancerName, catalogTree);
         }
-        StringWriter writer = new StringWriter();
-        var jsonGenerator = new JsonFactory().createGenerator(writer).useDefaultPrettyPrinter();
-        jsonMapper.writeTree(jsonGenerator, answer);
-        return writer.toString();
+        return answer;
     }
 
     private void setRequiredToPropertiesSchema(ObjectNode camelYamlDslSchema, ObjectNode catalogModel) {
@@ -251,4 +393,14 @@ public class CamelCatalogProcessor {
         }
         catalogModel.withObject("/propertiesSchema").set("required", jsonMapper.valueToTree(required));
     }
+
+    /**
+     * Receives every catalog as soon as it's created
+     *
+     * @param <T> the type of the result returned for every catalog
+     */
+    @FunctionalInterface
+    public interface CatalogSink<T> {
+        T accept(String name, ObjectNode catalog) throws Exception;
+    }
 }
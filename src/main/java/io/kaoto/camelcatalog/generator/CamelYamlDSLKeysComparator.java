@@ -17,26 +17,23 @@ package io.kaoto.camelcatalog.generator;
 
 import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
 
 import org.apache.camel.tooling.model.EipModel.EipOptionModel;
 
 public class CamelYamlDSLKeysComparator implements Comparator<String> {
 
-    private final List<EipOptionModel> eipOptions;
+    private final ModelOptionsIndex<EipOptionModel> eipOptions;
 
     public CamelYamlDSLKeysComparator(List<EipOptionModel> eipOptions) {
+        this(new ModelOptionsIndex<>(eipOptions));
+    }
+
+    public CamelYamlDSLKeysComparator(ModelOptionsIndex<EipOptionModel> eipOptions) {
         this.eipOptions = eipOptions;
     }
 
     @Override
     public int compare(String firstKey, String secondKey) {
-        Optional<EipOptionModel> firstOption = eipOptions.stream().filter(e -> e.getName().equals(firstKey)).findFirst();
-        Optional<EipOptionModel> secondOption = eipOptions.stream().filter(e -> e.getName().equals(secondKey)).findFirst();
-
-        var firstIndex = firstOption.isPresent() ? firstOption.get().getIndex() : Integer.MAX_VALUE;
-        var secondIndex = secondOption.isPresent() ? secondOption.get().getIndex() : Integer.MAX_VALUE;
-
-        return Integer.compare(firstIndex, secondIndex);
+        return Integer.compare(eipOptions.getIndex(firstKey), eipOptions.getIndex(secondKey));
     }
 }
@@ -15,14 +15,11 @@
  */
 package io.kaoto.camelcatalog.generator;
 
-import com.fasterxml.jackson.core.JsonFactory;
-import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
-import java.io.StringWriter;
 import java.util.*;
 
 /**
@@ -43,6 +40,7 @@ public class CamelYamlDslSchemaProcessor {
             "org.apache.camel.dsl.yaml.deserializers.ErrorHandlerBuilderDeserializer";
     private final ObjectMapper jsonMapper;
     private final ObjectNode yamlDslSchema;
+    private final JsonWriterFactory jsonWriterFactory;
     private final List<String> processorBlocklist = List.of("org.apache.camel.model.KameletDefinition");
 
     /**
@@ -76,8 +74,14 @@ public class CamelYamlDslSchemaProcessor {
     private final List<String> processorReferenceBlockList = List.of(PROCESSOR_DEFINITION);
 
     public CamelYamlDslSchemaProcessor(ObjectMapper mapper, ObjectNode yamlDslSchema) throws Exception {
+        this(mapper, yamlDslSchema, JsonWriterFactory.PRETTY);
+    }
+
+    public CamelYamlDslSchemaProcessor(ObjectMapper mapper, ObjectNode yamlDslSchema,
+                                       JsonWriterFactory jsonWriterFactory) throws Exception {
         this.jsonMapper = mapper;
         this.yamlDslSchema = yamlDslSchema;
+        this.jsonWriterFactory = jsonWriterFactory;
     }
 
     public Map<String, String> processSubSchema() throws Exception {
@@ -120,11 +124,8 @@ public class CamelYamlDslSchemaProcessor {
         answer.set("$schema", rootSchema.get("$schema"));
         populateDefinitions(answer, definitions);
 
-        var writer = new StringWriter();
         try {
-            JsonGenerator gen = new JsonFactory().createGenerator(writer).useDefaultPrettyPrinter();
-            jsonMapper.writeTree(gen, answer);
-            return writer.toString();
+            return jsonWriterFactory.writeTree(jsonMapper, answer);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning the generation of a catalog version
+ */
+@Name("io.kaoto.camelcatalog.CatalogGeneration")
+@Label("Catalog Generation")
+@Description("Generation of every aggregate and the index of a catalog version")
+@Category({"Kaoto", "Catalog Generator"})
+@StackTrace(false)
+class CatalogGenerationEvent extends jdk.jfr.Event {
+    @Label("Runtime")
+    String runtime;
+
+    @Label("Catalog Version")
+    String catalogVersion;
+
+    @Label("Kamelets Version")
+    String kameletsVersion;
+
+    @Label("Success")
+    boolean success;
+}
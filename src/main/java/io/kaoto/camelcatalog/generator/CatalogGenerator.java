@@ -15,8 +15,6 @@
  */
 package io.kaoto.camelcatalog.generator;
 
-import com.fasterxml.jackson.core.JsonFactory;
-import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -24,69 +22,152 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import io.kaoto.camelcatalog.generators.CRDGenerator;
 import io.kaoto.camelcatalog.maven.CamelCatalogVersionLoader;
+import io.kaoto.camelcatalog.model.BinaryFile;
 import io.kaoto.camelcatalog.model.CatalogDefinition;
 import io.kaoto.camelcatalog.model.CatalogDefinitionEntry;
+import io.kaoto.camelcatalog.model.CompressedFile;
 
 import java.io.*;
-import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import static io.kaoto.camelcatalog.model.Constants.*;
 
-public class CatalogGenerator {
+public class CatalogGenerator implements AutoCloseable {
     private static final Logger LOGGER = Logger.getLogger(CatalogGenerator.class.getName());
 
     private static final ObjectMapper jsonMapper = new ObjectMapper()
             .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
     private static final ObjectMapper yamlMapper = new ObjectMapper(new YAMLFactory());
+    private static final Set<String> SHARDED_CATALOGS = Set.of(COMPONENTS, "patterns", "entities");
 
     private final CatalogGeneratorBuilder catalogGeneratorBuilder;
     private final CamelCatalogVersionLoader camelCatalogVersionLoader;
     private final File outputDirectory;
+    private ContentStore contentStore;
+    private String contentStorePath;
+    private FileCompressor fileCompressor;
+    private SmileEncoder smileEncoder;
+    private JsonWriterFactory jsonWriterFactory = JsonWriterFactory.PRETTY;
+    private HashedFileWriter indexFileWriter;
+    private HashedFileWriter hashedFileWriter;
     private String camelCatalogVersion;
     private String kameletsVersion;
     private String camelKCRDsVersion;
+    private boolean definitionsPool;
+    private boolean sharded;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private Map<String, BuildManifest.AggregateBuild> previousBuild = Map.of();
+    private final Map<String, BuildManifest.AggregateBuild> catalogBuild = new TreeMap<>();
+    private PhaseRecorder phaseRecorder = new PhaseRecorder();
 
     CatalogGenerator(CatalogGeneratorBuilder catalogGeneratorBuilder, CamelCatalogVersionLoader camelCatalogVersionLoader,
                      File outputDirectory) {
         this.catalogGeneratorBuilder = catalogGeneratorBuilder;
         this.camelCatalogVersionLoader = camelCatalogVersionLoader;
         this.outputDirectory = outputDirectory;
+        setContentStore(null);
     }
 
     public CatalogDefinition generate() {
-        camelCatalogVersionLoader.loadKameletBoundaries();
-        camelCatalogVersionLoader.loadCamelCatalog(camelCatalogVersion);
-        camelCatalogVersionLoader.loadKamelets(kameletsVersion);
-        camelCatalogVersionLoader.loadKubernetesSchema();
-        camelCatalogVersionLoader.loadCamelKCRDs(camelKCRDsVersion);
-        camelCatalogVersionLoader.loadLocalSchemas();
-        camelCatalogVersionLoader.loadKaotoPatterns();
-        camelCatalogVersionLoader.loadCamelYamlDsl(camelCatalogVersion);
+        var event = new CatalogGenerationEvent();
+        event.begin();
+        try {
+            var catalogDefinition = generateCatalog();
+            event.success = catalogDefinition != null;
+            return catalogDefinition;
+        } finally {
+            event.runtime = String.valueOf(catalogGeneratorBuilder.getRuntime());
+            event.catalogVersion = camelCatalogVersion;
+            event.kameletsVersion = kameletsVersion;
+            event.commit();
+        }
+    }
 
-        var catalogDefinition = new CatalogDefinition();
-        var yamlDslSchemaProcessor = processCamelSchema(catalogDefinition);
-        processCatalog(yamlDslSchemaProcessor, catalogDefinition);
-        processKameletBoundaries(catalogDefinition);
-        processKamelets(catalogDefinition);
-        processKameletsCRDs(catalogDefinition);
+    private CatalogDefinition generateCatalog() {
+        phaseRecorder = new PhaseRecorder();
+        phaseRecorder.measure("loadKubernetesSchema", camelCatalogVersionLoader::loadKubernetesSchema);
 
+        String indexFingerprint;
         try {
-            catalogDefinition
-                    .setName("Camel " + camelCatalogVersionLoader.getRuntime().getLabel() + " " + camelCatalogVersion);
-            catalogDefinition.setVersion(camelCatalogVersion);
-            catalogDefinition.setRuntime(camelCatalogVersionLoader.getRuntime());
+            indexFingerprint = getIndexFingerprint();
+            /* Nothing is resolved nor loaded when the whole catalog of the previous build is still valid */
+            var previousCatalog = phaseRecorder.measure("reusePreviousBuild",
+                    () -> reusePreviousBuild(indexFingerprint));
+            if (previousCatalog != null) {
+                return previousCatalog;
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, e.toString(), e);
+            return null;
+        }
+
+        /* A single resolution for every artifact of this version, instead of one per load */
+        phaseRecorder.measure("resolveDependencies", () -> camelCatalogVersionLoader.resolveDependencies(
+                camelCatalogVersion, kameletsVersion, camelKCRDsVersion));
+        phaseRecorder.measure("loadKameletBoundaries", camelCatalogVersionLoader::loadKameletBoundaries);
+        phaseRecorder.measure("loadCamelCatalog",
+                () -> camelCatalogVersionLoader.loadCamelCatalog(camelCatalogVersion));
+        phaseRecorder.measure("loadKamelets", () -> camelCatalogVersionLoader.loadKamelets(kameletsVersion));
+        phaseRecorder.measure("loadCamelKCRDs", () -> camelCatalogVersionLoader.loadCamelKCRDs(camelKCRDsVersion));
+        phaseRecorder.measure("loadLocalSchemas", camelCatalogVersionLoader::loadLocalSchemas);
+        phaseRecorder.measure("loadKaotoPatterns", camelCatalogVersionLoader::loadKaotoPatterns);
+        phaseRecorder.measure("loadCamelYamlDsl",
+                () -> camelCatalogVersionLoader.loadCamelYamlDsl(camelCatalogVersion));
 
-            String content = jsonMapper.writeValueAsString(catalogDefinition);
-            String filename = String.format("%s-%s.json", "index",
-                    Util.generateHash(content));
+        var catalogDefinition = new CatalogDefinition();
+        try {
+            buildAggregate(CAMEL_CATALOG_AGGREGATE, Arrays.asList(
+                    catalogGeneratorBuilder.getRuntime(),
+                    camelCatalogVersion,
+                    camelCatalogVersionLoader.getCamelYamlDslSchema(),
+                    new TreeMap<>(camelCatalogVersionLoader.getLocalSchemas()),
+                    new TreeMap<>(camelCatalogVersionLoader.getKaotoPatterns()),
+                    camelCatalogVersionLoader.getKubernetesSchema(),
+                    definitionsPool,
+                    sharded), catalogDefinition, index -> {
+                var yamlDslSchemaProcessor = phaseRecorder.measure("processCamelSchema",
+                        () -> processCamelSchema(index));
+                return yamlDslSchemaProcessor != null
+                        && phaseRecorder.measure("processCatalog", () -> processCatalog(yamlDslSchemaProcessor, index));
+            });
+            buildAggregate(KAMELET_BOUNDARIES_KEY,
+                    Arrays.asList(kameletsVersion,
+                            camelCatalogVersionLoader.getKameletBoundaries().stream().sorted().toList()),
+                    catalogDefinition,
+                    index -> phaseRecorder.measure("processKameletBoundaries", () -> processKameletBoundaries(index)));
+            buildAggregate(KAMELETS,
+                    Arrays.asList(kameletsVersion, camelCatalogVersionLoader.getKamelets().stream().sorted().toList(),
+                            sharded),
+                    catalogDefinition, index -> phaseRecorder.measure("processKamelets", () -> processKamelets(index)));
+            buildAggregate(CRD_SCHEMA, Arrays.asList(camelKCRDsVersion, camelCatalogVersionLoader.getCamelKCRDs()),
+                    catalogDefinition,
+                    index -> phaseRecorder.measure("processKameletsCRDs", () -> processKameletsCRDs(index)));
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, e.toString(), e);
+            return null;
+        }
 
-            File indexFile = outputDirectory.toPath().resolve(filename).toFile();
-            catalogDefinition.setFileName(indexFile.getName());
+        try {
+            phaseRecorder.measure("writeIndex", () -> writeIndex(catalogDefinition));
 
-            jsonMapper.writerWithDefaultPrettyPrinter().writeValue(indexFile, catalogDefinition);
+            /* The next builds can only skip this catalog when every aggregate can be reused */
+            var isComplete = catalogBuild.values().stream().allMatch(aggregate -> aggregate.fingerprint() != null);
+            var indexEntry = new CatalogDefinitionEntry(BuildManifest.INDEX, "Index of the catalog", camelCatalogVersion,
+                    catalogDefinition.getFileName());
+            catalogBuild.put(BuildManifest.INDEX, new BuildManifest.AggregateBuild(isComplete ? indexFingerprint : null,
+                    Map.of(BuildManifest.INDEX, indexEntry), Map.of()));
 
             return catalogDefinition;
         } catch (Exception e) {
@@ -96,6 +177,317 @@ public class CatalogGenerator {
         return null;
     }
 
+    /**
+     * Fingerprint the inputs of the whole catalog which are known before resolving its artifacts: the versions,
+     * the options and the Kubernetes schema. The local schemas and Kaoto patterns are part of the generator version.
+     */
+    String getIndexFingerprint() throws Exception {
+        return BuildManifest.fingerprint(Arrays.asList(catalogGeneratorBuilder.getRuntime(), camelCatalogVersion,
+                kameletsVersion, camelKCRDsVersion, camelCatalogVersionLoader.getKubernetesSchema(), definitionsPool,
+                sharded, jsonWriterFactory, isCompression(), isSmile()));
+    }
+
+    /**
+     * Reuse the catalog of the previous build when none of its inputs changed and every file it refers to is
+     * still available, so none of its artifacts has to be resolved
+     *
+     * @return the previous catalog definition, or null when it has to be generated
+     */
+    private CatalogDefinition reusePreviousBuild(String indexFingerprint) {
+        var previousIndex = previousBuild.get(BuildManifest.INDEX);
+        if (previousIndex == null || isSnapshot() || !indexFingerprint.equals(previousIndex.fingerprint())
+                || !previousBuild.values().stream().allMatch(aggregate -> aggregate.fingerprint() != null)) {
+            return null;
+        }
+
+        var catalogDefinition = BuildManifest.readCatalogDefinition(previousBuild, outputDirectory);
+        if (catalogDefinition != null) {
+            catalogBuild.putAll(previousBuild);
+            LOGGER.info("Reusing unchanged catalog for Camel " + catalogGeneratorBuilder.getRuntime() + " "
+                    + camelCatalogVersion);
+        }
+        return catalogDefinition;
+    }
+
+    /**
+     * Name the catalog definition, add the compressed and binary variants of its files, and write its index file
+     * once every compressed file is written
+     */
+    private void writeIndex(CatalogDefinition catalogDefinition) throws IOException {
+        catalogDefinition
+                .setName("Camel " + camelCatalogVersionLoader.getRuntime().getLabel() + " " + camelCatalogVersion);
+        catalogDefinition.setVersion(camelCatalogVersion);
+        catalogDefinition.setRuntime(camelCatalogVersionLoader.getRuntime());
+
+        if (fileCompressor != null) {
+            addCompressedFiles(catalogDefinition.getCatalogs());
+            addCompressedFiles(catalogDefinition.getSchemas());
+            addCompressedFiles(catalogDefinition.getShards());
+        }
+        if (smileEncoder != null) {
+            addBinaryFiles(catalogDefinition.getCatalogs());
+            addBinaryFiles(catalogDefinition.getSchemas());
+        }
+
+        catalogDefinition.setFileName(indexFileWriter.writeValue("index", catalogDefinition));
+        if (fileCompressor != null) {
+            fileCompressor.awaitAll();
+        }
+        removeStaleFiles(catalogDefinition);
+    }
+
+    /**
+     * Reuse the previously generated aggregate when its inputs didn't change, unless it's built from a SNAPSHOT
+     * version, otherwise generate it again,
+     * unless another catalog of this run already generated it from the same inputs into the content store.
+     * Aggregates generated without any entry, or only partially because of a failure, are recorded without
+     * fingerprint, so they are retried next time.
+     */
+    void buildAggregate(String name, List<?> inputs, CatalogDefinition index, AggregateProcessor processor)
+            throws Exception {
+        /* The JSON layout changes every generated file, so it's part of every fingerprint */
+        var fingerprint = BuildManifest.fingerprint(Stream.concat(inputs.stream(), Stream.of(jsonWriterFactory)).toList());
+        var previous = previousBuild.get(name);
+        BuildManifest.AggregateBuild aggregate;
+
+        if (previous != null && !isSnapshot() && fingerprint.equals(previous.fingerprint())
+                && previous.isAvailableIn(outputDirectory)) {
+            LOGGER.info("Reusing unchanged " + name + " for Camel " + catalogGeneratorBuilder.getRuntime() + " "
+                    + camelCatalogVersion);
+            aggregate = previous;
+        } else {
+            /* The processors name the files relative to the content store, the catalog refers to them from its folder */
+            var storedAggregate = contentStore.getOrBuild(name + ":" + fingerprint, () -> {
+                var generated = new CatalogDefinition();
+                var isComplete = processor.process(generated);
+
+                var isEmpty = generated.getCatalogs().isEmpty() && generated.getSchemas().isEmpty();
+                return new BuildManifest.AggregateBuild(isComplete && !isEmpty ? fingerprint : null,
+                        generated.getCatalogs(), generated.getSchemas(), generated.getShards());
+            });
+            aggregate = new BuildManifest.AggregateBuild(storedAggregate.fingerprint(),
+                    toCatalogEntries(storedAggregate.catalogs()), toCatalogEntries(storedAggregate.schemas()),
+                    toCatalogEntries(storedAggregate.shards()));
+        }
+
+        catalogBuild.put(name, aggregate);
+        index.getCatalogs().putAll(aggregate.catalogs());
+        index.getSchemas().putAll(aggregate.schemas());
+        index.getShards().putAll(aggregate.shards());
+    }
+
+    /**
+     * A SNAPSHOT artifact changes under the same version, so the aggregates of a SNAPSHOT catalog are never reused
+     */
+    private boolean isSnapshot() {
+        return Stream.of(camelCatalogVersion, kameletsVersion, camelKCRDsVersion)
+                .anyMatch(version -> version != null && version.endsWith("-SNAPSHOT"));
+    }
+
+    /**
+     * Point the entries of the content store files to their location relative to the catalog folder
+     */
+    private Map<String, CatalogDefinitionEntry> toCatalogEntries(Map<String, CatalogDefinitionEntry> storeEntries) {
+        var catalogEntries = new TreeMap<String, CatalogDefinitionEntry>();
+        storeEntries.forEach((key, entry) -> catalogEntries.put(key, entry == null ? null
+                : entry.withFile(contentStorePath + entry.file())));
+        return catalogEntries;
+    }
+
+    /**
+     * Add the compressed copies to the entries, all their files are compressed concurrently
+     */
+    private void addCompressedFiles(Map<String, CatalogDefinitionEntry> entries) {
+        entries.values().stream()
+                .filter(Objects::nonNull)
+                .forEach(entry -> fileCompressor.compress(outputDirectory.toPath().resolve(entry.file())));
+
+        entries.replaceAll((name, entry) -> entry == null ? null : entry.withCompressed(getCompressedFiles(entry)));
+    }
+
+    /**
+     * Get the compressed copies of the entry file, relative to the catalog folder like the entry file
+     */
+    private Map<String, CompressedFile> getCompressedFiles(CatalogDefinitionEntry entry) {
+        var folder = entry.file().substring(0, entry.file().lastIndexOf('/') + 1);
+        var compressedFiles = new TreeMap<String, CompressedFile>();
+        fileCompressor.getCompressedFiles(outputDirectory.toPath().resolve(entry.file())).forEach(
+                (encoding, compressedFile) -> compressedFiles.put(encoding, new CompressedFile(
+                        folder + compressedFile.file(), compressedFile.size(), compressedFile.hash())));
+        return compressedFiles;
+    }
+
+    /**
+     * Add the binary copies to the entries, all their files are encoded concurrently
+     */
+    private void addBinaryFiles(Map<String, CatalogDefinitionEntry> entries) {
+        entries.values().stream()
+                .filter(Objects::nonNull)
+                .forEach(entry -> smileEncoder.encode(outputDirectory.toPath().resolve(entry.file())));
+
+        entries.replaceAll((name, entry) -> entry == null ? null : entry.withBinary(getBinaryFiles(entry)));
+    }
+
+    /**
+     * Get the binary copies of the entry file, relative to the catalog folder like the entry file
+     */
+    private Map<String, BinaryFile> getBinaryFiles(CatalogDefinitionEntry entry) {
+        var folder = entry.file().substring(0, entry.file().lastIndexOf('/') + 1);
+        var binaryFiles = new TreeMap<String, BinaryFile>();
+        smileEncoder.getBinaryFiles(outputDirectory.toPath().resolve(entry.file())).forEach(
+                (format, binaryFile) -> binaryFiles.put(format, new BinaryFile(
+                        folder + binaryFile.file(), binaryFile.size(), binaryFile.hash())));
+        return binaryFiles;
+    }
+
+    /**
+     * Remove the files left behind by previous builds which are no longer referenced by the catalog definition
+     */
+    private void removeStaleFiles(CatalogDefinition catalogDefinition) throws IOException {
+        var referencedFiles = new HashSet<String>();
+        referencedFiles.add(catalogDefinition.getFileName());
+        Stream.of(catalogDefinition.getCatalogs(), catalogDefinition.getSchemas(), catalogDefinition.getShards())
+                .flatMap(entries -> entries.values().stream())
+                .filter(Objects::nonNull)
+                .forEach(entry -> referencedFiles.add(entry.file()));
+        /* The shard files are only listed by their shard index */
+        for (var shardIndex : catalogDefinition.getShards().values()) {
+            if (shardIndex != null) {
+                var shardIndexFile = outputDirectory.toPath().resolve(shardIndex.file());
+                CatalogShardWriter.readShardFiles(shardIndexFile).forEach(shardFile -> referencedFiles.add(
+                        outputDirectory.toPath().relativize(shardFile).toString().replace(File.separator, "/")));
+            }
+        }
+
+        var staleFiles = outputDirectory.listFiles((dir, name) -> {
+            var fileName = ContentStore.getOriginalFileName(name);
+            return fileName.endsWith(".json") && !referencedFiles.contains(fileName);
+        });
+        if (staleFiles != null) {
+            for (var staleFile : staleFiles) {
+                staleFile.delete();
+            }
+        }
+    }
+
+    /**
+     * Release the classloader, jar files and Camel catalog caches of this catalog version
+     */
+    @Override
+    public void close() throws IOException {
+        camelCatalogVersionLoader.close();
+    }
+
+    /**
+     * Get the aggregates generated or reused by the last {@link #generate()} call
+     */
+    public Map<String, BuildManifest.AggregateBuild> getCatalogBuild() {
+        return catalogBuild;
+    }
+
+    /**
+     * Get the phases recorded by the last {@link #generate()} call, the aggregates reused from the previous build
+     * or from the content store have none
+     */
+    public List<PhaseRecorder.Phase> getPhases() {
+        return phaseRecorder.getPhases();
+    }
+
+    public void setPreviousBuild(Map<String, BuildManifest.AggregateBuild> previousBuild) {
+        this.previousBuild = previousBuild == null ? Map.of() : previousBuild;
+    }
+
+    /**
+     * Write the generated files into the given content store, shared with other catalogs, instead of
+     * the catalog folder. Only the catalog definition index is written into the catalog folder.
+     */
+    public void setContentStore(ContentStore contentStore) {
+        this.contentStore = contentStore == null ? new ContentStore(outputDirectory.toPath(), null, 1) : contentStore;
+        createFileWriters();
+
+        var relativePath = outputDirectory.toPath().toAbsolutePath().normalize()
+                .relativize(this.contentStore.getDirectory()).toString().replace(File.separator, "/");
+        this.contentStorePath = relativePath.isEmpty() ? "" : relativePath + "/";
+    }
+
+    public boolean isDefinitionsPool() {
+        return definitionsPool;
+    }
+
+    /**
+     * Write the definitions inlined into the aggregated catalogs once, in a document shared by the catalogs
+     * which reference it, instead of inlining them into every schema
+     */
+    public void setDefinitionsPool(boolean definitionsPool) {
+        this.definitionsPool = definitionsPool;
+    }
+
+    public boolean isSharded() {
+        return sharded;
+    }
+
+    /**
+     * Write every component, pattern, entity and Kamelet into its own file as well, along with an index of
+     * the files for every kind, so the consumers can load only the entries they need
+     */
+    public void setSharded(boolean sharded) {
+        this.sharded = sharded;
+    }
+
+    public boolean isCompression() {
+        return fileCompressor != null;
+    }
+
+    /**
+     * Write a gzip compressed copy next to every generated file, and record it in the catalog definition
+     */
+    public void setCompression(boolean compression) {
+        this.fileCompressor = compression ? new FileCompressor() : null;
+        createFileWriters();
+    }
+
+    public boolean isSmile() {
+        return smileEncoder != null;
+    }
+
+    /**
+     * Write a Smile encoded copy next to every aggregated catalog and schema, and record it in the catalog
+     * definition
+     */
+    public void setSmile(boolean smile) {
+        this.smileEncoder = smile ? new SmileEncoder() : null;
+    }
+
+    public boolean isCompact() {
+        return jsonWriterFactory == JsonWriterFactory.COMPACT;
+    }
+
+    /**
+     * Write every generated JSON file minified instead of pretty-printed
+     */
+    public void setCompact(boolean compact) {
+        this.jsonWriterFactory = JsonWriterFactory.of(compact);
+        createFileWriters();
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * The maximum number of Kaoto catalogs processed at the same time for this version
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    private void createFileWriters() {
+        this.indexFileWriter = new HashedFileWriter(jsonMapper, outputDirectory.toPath(), fileCompressor,
+                jsonWriterFactory);
+        this.hashedFileWriter = new HashedFileWriter(jsonMapper, contentStore.getDirectory(), fileCompressor,
+                jsonWriterFactory);
+    }
+
     public String getKameletsVersion() {
         return kameletsVersion;
     }
@@ -128,13 +520,19 @@ public class CatalogGenerator {
 
         var camelYamlDSLSchema07 = camelCatalogVersionLoader.getCamelYamlDslSchema().replace(
                 "http://json-schema.org/draft-04/schema#", "http://json-schema.org/draft-07/schema#");
+        ObjectNode yamlDslSchema;
         try {
-            var outputFileName = String.format("%s-%s.json", CAMEL_YAML_DSL_FILE_NAME,
-                    Util.generateHash(camelYamlDSLSchema07));
-            var output = outputDirectory.toPath().resolve(outputFileName);
-            output.getParent().toFile().mkdirs();
+            yamlDslSchema = (ObjectNode) jsonMapper.readTree(camelYamlDSLSchema07);
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, e.toString(), e);
+            return null;
+        }
 
-            Files.writeString(output, camelYamlDSLSchema07);
+        try {
+            /* The schema is written as published, unless it has to be minified */
+            var outputFileName = isCompact()
+                    ? hashedFileWriter.writeJson(CAMEL_YAML_DSL_FILE_NAME, yamlDslSchema)
+                    : hashedFileWriter.writeString(CAMEL_YAML_DSL_FILE_NAME, camelYamlDSLSchema07);
 
             var indexEntry = new CatalogDefinitionEntry(
                     CAMEL_YAML_DSL_FILE_NAME,
@@ -148,91 +546,152 @@ public class CatalogGenerator {
         }
 
         try {
-            var yamlDslSchema = (ObjectNode) jsonMapper.readTree(camelYamlDSLSchema07);
-
-            return new CamelYamlDslSchemaProcessor(jsonMapper, yamlDslSchema);
+            return new CamelYamlDslSchemaProcessor(jsonMapper, yamlDslSchema, jsonWriterFactory);
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, e.toString(), e);
             return null;
         }
     }
 
-    private void processCatalog(CamelYamlDslSchemaProcessor schemaProcessor, CatalogDefinition index) {
+    /**
+     * @return whether every Kaoto catalog was generated and added to the index
+     */
+    private boolean processCatalog(CamelYamlDslSchemaProcessor schemaProcessor, CatalogDefinition index) {
         var catalogProcessor = new CamelCatalogProcessor(camelCatalogVersionLoader.getCamelCatalog(), jsonMapper,
-                schemaProcessor, catalogGeneratorBuilder.getRuntime(), camelCatalogVersionLoader);
+                schemaProcessor, catalogGeneratorBuilder.getRuntime(), camelCatalogVersionLoader, phaseRecorder,
+                contentStore);
+        catalogProcessor.setParallelism(parallelism);
         try {
-            var catalogMap = catalogProcessor.processCatalog();
-            catalogMap.forEach((name, catalog) -> {
-                try {
-                    var outputFileName = String.format(
-                            "%s-%s-%s.json", CAMEL_CATALOG_AGGREGATE, name, Util.generateHash(catalog));
-                    var output = outputDirectory.toPath().resolve(outputFileName);
-                    Files.writeString(output, catalog);
-                    var indexEntry = new CatalogDefinitionEntry(
-                            name,
-                            "Aggregated Camel catalog for " + name,
-                            camelCatalogVersion,
-                            outputFileName);
-                    index.getCatalogs().put(name, indexEntry);
-                } catch (Exception e) {
-                    LOGGER.log(Level.SEVERE, e.toString(), e);
+            /*
+             * Every catalog is streamed to its file as soon as it's created, instead of keeping them all in memory,
+             * except the ones with definitions when pooling them, as they can only be written after the pool
+             */
+            var pooledCatalogs = new ConcurrentSkipListMap<String, ObjectNode>();
+            var shardIndexFileNames = new ConcurrentSkipListMap<String, String>();
+            var outputFileNames = new LinkedHashMap<>(catalogProcessor.processCatalog((name, catalog) -> {
+                if (definitionsPool && DefinitionsPool.hasDefinitions(catalog)) {
+                    pooledCatalogs.put(name, catalog);
+                    return null;
+                }
+                return writeCatalog(name, catalog, shardIndexFileNames);
+            }));
+
+            if (!pooledCatalogs.isEmpty()) {
+                var pool = new DefinitionsPool(jsonMapper);
+                pooledCatalogs.values().forEach(pool::addCatalog);
+
+                if (!pool.isEmpty()) {
+                    var poolFileName = hashedFileWriter.writeJson(
+                            String.format("%s-%s", CAMEL_CATALOG_AGGREGATE, DEFINITIONS), pool.toJson());
+                    pool.relocateRefs(poolFileName);
+                    outputFileNames.put(DEFINITIONS, poolFileName);
+                }
+
+                for (var pooledCatalog : pooledCatalogs.entrySet()) {
+                    outputFileNames.put(pooledCatalog.getKey(),
+                            writeCatalog(pooledCatalog.getKey(), pooledCatalog.getValue(), shardIndexFileNames));
                 }
+            }
+
+            outputFileNames.forEach((name, outputFileName) -> {
+                var indexEntry = new CatalogDefinitionEntry(
+                        name,
+                        DEFINITIONS.equals(name)
+                                ? "JSON schema definitions shared by the aggregated Camel catalogs"
+                                : "Aggregated Camel catalog for " + name,
+                        camelCatalogVersion,
+                        outputFileName);
+                index.getCatalogs().put(name, indexEntry);
             });
+            shardIndexFileNames.forEach((name, shardIndexFileName) -> index.getShards().put(name,
+                    new CatalogDefinitionEntry(name, "Index of the Camel catalog shards for " + name,
+                            camelCatalogVersion, shardIndexFileName)));
+            return true;
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, e.toString(), e);
+            return false;
         }
     }
 
-    private void processKameletBoundaries(CatalogDefinition index) {
+    /**
+     * Write an aggregated catalog, and its shards when enabled for this catalog
+     *
+     * @param shardIndexFileNames receives the shard index file name, keyed by catalog name
+     * @return the aggregated catalog file name
+     */
+    private String writeCatalog(String name, ObjectNode catalog, Map<String, String> shardIndexFileNames)
+            throws IOException {
+        if (sharded && SHARDED_CATALOGS.contains(name)) {
+            shardIndexFileNames.put(name, new CatalogShardWriter(jsonMapper, hashedFileWriter)
+                    .write(name, String.format("%s-%s-shards", CAMEL_CATALOG_AGGREGATE, name), catalog));
+        }
+        return hashedFileWriter.writeJson(String.format("%s-%s", CAMEL_CATALOG_AGGREGATE, name), catalog);
+    }
+
+    /**
+     * @return whether the Kamelet boundaries were generated and added to the index
+     */
+    private boolean processKameletBoundaries(CatalogDefinition index) {
         if (camelCatalogVersionLoader.getKameletBoundaries().isEmpty()) {
             LOGGER.severe("Kamelet boundaries are not loaded");
-            return;
+            return false;
         }
 
         var indexEntry = getKameletsEntry(camelCatalogVersionLoader.getKameletBoundaries(), KAMELET_BOUNDARIES_KEY,
                 KAMELET_BOUNDARIES_FILENAME, "Aggregated Kamelet boundaries in JSON");
+        if (indexEntry == null) {
+            return false;
+        }
         index.getCatalogs().put(indexEntry.name(), indexEntry);
+        return true;
     }
 
-    private void processKamelets(CatalogDefinition index) {
+    /**
+     * @return whether the Kamelets were generated and added to the index
+     */
+    private boolean processKamelets(CatalogDefinition index) {
         if (camelCatalogVersionLoader.getKamelets().isEmpty()) {
             LOGGER.severe("Kamelets are not loaded");
         }
 
         var indexEntry = getKameletsEntry(camelCatalogVersionLoader.getKamelets(), KAMELETS, KAMELETS_AGGREGATE,
-                "Aggregated Kamelets in JSON");
+                "Aggregated Kamelets in JSON", sharded ? index : null);
+        if (indexEntry == null) {
+            return false;
+        }
         index.getCatalogs().put(indexEntry.name(), indexEntry);
+        return true;
     }
 
     private CatalogDefinitionEntry getKameletsEntry(List<String> kamelets, String name, String filename,
                                                     String description) {
+        return getKameletsEntry(kamelets, name, filename, description, null);
+    }
+
+    /**
+     * @param shardsIndex when present, every Kamelet is written into its own file as well, and the index of
+     *                    these files is added to its shards
+     */
+    private CatalogDefinitionEntry getKameletsEntry(List<String> kamelets, String name, String filename,
+                                                    String description, CatalogDefinition shardsIndex) {
         var root = jsonMapper.createObjectNode();
 
         try {
-            sortKamelets(kamelets).forEach(kamelet -> {
-                processKameletFile(kamelet, root);
-            });
+            parseKamelets(kamelets).forEach(kamelet -> root.putIfAbsent(kamelet.name(), kamelet.node()));
 
-            JsonFactory jsonFactory = new JsonFactory();
-            var outputStream = new ByteArrayOutputStream();
-            var writer = new OutputStreamWriter(outputStream);
-
-            try (JsonGenerator jsonGenerator = jsonFactory.createGenerator(writer).useDefaultPrettyPrinter()) {
-                jsonMapper.writeTree(jsonGenerator, root);
-                var rootBytes = outputStream.toByteArray();
-                var outputFileName = String.format("%s-%s.json", filename, Util.generateHash(rootBytes));
-                var output = outputDirectory.toPath().resolve(outputFileName);
-
-                Files.write(output, rootBytes);
-
-                return new CatalogDefinitionEntry(
-                        name,
-                        description,
-                        kameletsVersion,
-                        outputFileName);
-            } catch (IOException e) {
-                LOGGER.log(Level.SEVERE, e.toString(), e);
+            if (shardsIndex != null) {
+                var shardIndexFileName = new CatalogShardWriter(jsonMapper, hashedFileWriter)
+                        .write(name, String.format("%s-shards", filename), root);
+                shardsIndex.getShards().put(name, new CatalogDefinitionEntry(name, "Index of the Kamelet shards",
+                        kameletsVersion, shardIndexFileName));
             }
+            var outputFileName = hashedFileWriter.writeJson(filename, root);
+
+            return new CatalogDefinitionEntry(
+                    name,
+                    description,
+                    kameletsVersion,
+                    outputFileName);
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, e.toString(), e);
         }
@@ -240,48 +699,49 @@ public class CatalogGenerator {
         return null;
     }
 
-    private void processKameletFile(String kamelet, ObjectNode targetObject) {
+    /**
+     * Parse and process every Kamelet only once, concurrently, and sort them by their lowercase name.
+     * The sort is stable, so when two Kamelets share the same name, the first one wins as before.
+     */
+    private List<ParsedKamelet> parseKamelets(List<String> kamelets) {
+        return kamelets.parallelStream()
+                .map(this::parseKamelet)
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(ParsedKamelet::name))
+                .toList();
+    }
+
+    private ParsedKamelet parseKamelet(String kamelet) {
         try {
             JsonNode kameletNode = yamlMapper.readTree(kamelet);
             String lowerFileName = kameletNode.get("metadata").get("name").asText().toLowerCase();
 
             KameletProcessor.process((ObjectNode) kameletNode);
-            targetObject.putIfAbsent(lowerFileName, kameletNode);
+            return new ParsedKamelet(lowerFileName, kameletNode);
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, e.toString(), e);
+            return null;
         }
     }
 
-    private List<String> sortKamelets(List<String> kamelets) {
-        return kamelets.stream().sorted(
-            (k1, k2) -> {
-                try {
-                    JsonNode kameletNode1 = yamlMapper.readTree(k1);
-                    JsonNode kameletNode2 = yamlMapper.readTree(k2);
-                    String kamelet1 = kameletNode1.get("metadata").get("name").asText().toLowerCase();
-                    String kamelet2 = kameletNode2.get("metadata").get("name").asText().toLowerCase();
-                    return kamelet1.compareTo(kamelet2);
-                } catch (Exception e) {
-                    LOGGER.log(Level.SEVERE, e.toString(), e);
-                }
-                return 0;
-            }).toList();
-    }
-
-    private void processKameletsCRDs(CatalogDefinition index) {
+    /**
+     * @return whether every CRD schema was generated and added to the index
+     */
+    private boolean processKameletsCRDs(CatalogDefinition index) {
         if (camelCatalogVersionLoader.getCamelKCRDs().isEmpty()) {
             LOGGER.severe("CamelK CRDs are not loaded");
-            return;
+            return false;
         }
 
-        CRDGenerator crdGenerator = new CRDGenerator(camelCatalogVersionLoader.getCamelKCRDs());
+        CRDGenerator crdGenerator = new CRDGenerator(camelCatalogVersionLoader.getCamelKCRDs(), jsonWriterFactory);
         var crdMap = crdGenerator.generate();
-        crdMap.forEach((name, catalog) -> {
+        var isComplete = !crdMap.isEmpty();
+        for (var crd : crdMap.entrySet()) {
+            var name = crd.getKey();
+            var catalog = crd.getValue();
             try {
-                var outputFileName = String.format(
-                        "%s-%s-%s.json", CRD_SCHEMA, name.toLowerCase(), Util.generateHash(catalog));
-                var output = outputDirectory.toPath().resolve(outputFileName);
-                Files.writeString(output, catalog);
+                var outputFileName = hashedFileWriter.writeString(
+                        String.format("%s-%s", CRD_SCHEMA, name.toLowerCase()), catalog);
                 var indexEntry = new CatalogDefinitionEntry(
                         name,
                         name,
@@ -290,7 +750,24 @@ public class CatalogGenerator {
                 index.getSchemas().put(name, indexEntry);
             } catch (Exception e) {
                 LOGGER.log(Level.SEVERE, e.toString(), e);
+                isComplete = false;
             }
-        });
+        }
+
+        return isComplete;
+    }
+
+    /**
+     * Generates the files of an aggregate, and adds their entries to the given index
+     */
+    @FunctionalInterface
+    interface AggregateProcessor {
+        /**
+         * @return whether the aggregate was completely generated, otherwise it isn't reused by the next builds
+         */
+        boolean process(CatalogDefinition index);
+    }
+
+    private record ParsedKamelet(String name, JsonNode node) {
     }
 }
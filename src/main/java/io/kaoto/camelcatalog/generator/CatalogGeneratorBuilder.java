@@ -16,8 +16,10 @@
 package io.kaoto.camelcatalog.generator;
 
 import java.io.File;
+import java.util.Map;
 
 import io.kaoto.camelcatalog.maven.CamelCatalogVersionLoader;
+import io.kaoto.camelcatalog.maven.KubernetesSchemaCache;
 import io.kaoto.camelcatalog.model.CatalogRuntime;
 
 /**
@@ -43,6 +45,15 @@ public class CatalogGeneratorBuilder {
     private String camelKCRDsVersion;
     private File outputDirectory;
     private boolean verbose = false;
+    private KubernetesSchemaCache kubernetesSchemaCache = KubernetesSchemaCache.getDefault();
+    private Map<String, BuildManifest.AggregateBuild> previousBuild;
+    private ContentStore contentStore;
+    private boolean definitionsPool = false;
+    private boolean compression = false;
+    private boolean sharded = false;
+    private boolean smile = false;
+    private boolean compact = false;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
 
     public CatalogGeneratorBuilder withRuntime(CatalogRuntime runtime) {
         this.runtime = runtime;
@@ -74,6 +85,51 @@ public class CatalogGeneratorBuilder {
         return this;
     }
 
+    public CatalogGeneratorBuilder withKubernetesSchemaCache(KubernetesSchemaCache kubernetesSchemaCache) {
+        this.kubernetesSchemaCache = kubernetesSchemaCache;
+        return this;
+    }
+
+    public CatalogGeneratorBuilder withPreviousBuild(Map<String, BuildManifest.AggregateBuild> previousBuild) {
+        this.previousBuild = previousBuild;
+        return this;
+    }
+
+    public CatalogGeneratorBuilder withContentStore(ContentStore contentStore) {
+        this.contentStore = contentStore;
+        return this;
+    }
+
+    public CatalogGeneratorBuilder withDefinitionsPool(boolean definitionsPool) {
+        this.definitionsPool = definitionsPool;
+        return this;
+    }
+
+    public CatalogGeneratorBuilder withCompression(boolean compression) {
+        this.compression = compression;
+        return this;
+    }
+
+    public CatalogGeneratorBuilder withSharded(boolean sharded) {
+        this.sharded = sharded;
+        return this;
+    }
+
+    public CatalogGeneratorBuilder withSmile(boolean smile) {
+        this.smile = smile;
+        return this;
+    }
+
+    public CatalogGeneratorBuilder withCompact(boolean compact) {
+        this.compact = compact;
+        return this;
+    }
+
+    public CatalogGeneratorBuilder withParallelism(int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
     public CatalogRuntime getRuntime() {
         return runtime;
     }
@@ -83,11 +139,20 @@ public class CatalogGeneratorBuilder {
     }
 
     public CatalogGenerator build() {
-        CamelCatalogVersionLoader camelCatalogVersionLoader = new CamelCatalogVersionLoader(runtime, verbose);
+        CamelCatalogVersionLoader camelCatalogVersionLoader = new CamelCatalogVersionLoader(runtime, verbose,
+                kubernetesSchemaCache);
         var catalogGenerator = new CatalogGenerator(this, camelCatalogVersionLoader, outputDirectory);
         catalogGenerator.setCamelCatalogVersion(camelCatalogVersion);
         catalogGenerator.setKameletsVersion(kameletsVersion);
         catalogGenerator.setCamelKCRDsVersion(camelKCRDsVersion);
+        catalogGenerator.setPreviousBuild(previousBuild);
+        catalogGenerator.setContentStore(contentStore);
+        catalogGenerator.setDefinitionsPool(definitionsPool);
+        catalogGenerator.setCompression(compression);
+        catalogGenerator.setSharded(sharded);
+        catalogGenerator.setSmile(smile);
+        catalogGenerator.setCompact(compact);
+        catalogGenerator.setParallelism(parallelism);
         return catalogGenerator;
     }
 
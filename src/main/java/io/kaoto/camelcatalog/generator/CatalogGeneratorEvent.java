@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning one of the generators of a Camel catalog, writing its files included
+ */
+@Name("io.kaoto.camelcatalog.CatalogGenerator")
+@Label("Catalog Generator")
+@Description("Generation and writing of one of the aggregated Camel catalogs, e.g. components")
+@Category({"Kaoto", "Catalog Generator"})
+@StackTrace(false)
+class CatalogGeneratorEvent extends jdk.jfr.Event {
+    @Label("Runtime")
+    String runtime;
+
+    @Label("Catalog Version")
+    String catalogVersion;
+
+    @Label("Generator")
+    String generator;
+
+    @Label("Success")
+    boolean success;
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes every entry of an aggregated catalog into its own file, along with a compact index of the entries, so
+ * the consumers can download the index and only the entries they need, instead of the whole aggregate.
+ * <p>
+ * The index is keyed by the entry name, e.g.
+ * <pre>
+ * {
+ *   "activemq": {
+ *     "title": "ActiveMQ 5.x",
+ *     "labels": ["messaging"],
+ *     "file": "components-activemq-&lt;hash&gt;.json",
+ *     "hash": "&lt;hash&gt;",
+ *     "size": 12345
+ *   }
+ * }
+ * </pre>
+ * The entry files are written next to the index, so their names are relative to it.
+ */
+public class CatalogShardWriter {
+    private final ObjectMapper jsonMapper;
+    private final HashedFileWriter hashedFileWriter;
+
+    CatalogShardWriter(ObjectMapper jsonMapper, HashedFileWriter hashedFileWriter) {
+        this.jsonMapper = jsonMapper;
+        this.hashedFileWriter = hashedFileWriter;
+    }
+
+    /**
+     * Write every entry of the catalog and their index
+     *
+     * @param kind    the kind of the catalog entries, used as prefix of the entry files, e.g. {@code components}
+     * @param prefix  the index file name prefix
+     * @param catalog the aggregated catalog, keyed by entry name
+     * @return the name of the written index file
+     */
+    String write(String kind, String prefix, ObjectNode catalog) throws IOException {
+        var shardIndex = jsonMapper.createObjectNode();
+
+        for (var entry : catalog.properties()) {
+            var shardFile = hashedFileWriter.writeJsonFile(
+                    String.format("%s-%s", kind, toFileName(entry.getKey())), entry.getValue());
+
+            var shardIndexEntry = shardIndex.putObject(entry.getKey());
+            var title = getTitle(entry.getValue());
+            if (title != null) {
+                shardIndexEntry.put("title", title);
+            }
+            getLabels(entry.getValue()).forEach(shardIndexEntry.putArray("labels")::add);
+            shardIndexEntry.put("file", shardFile.fileName());
+            shardIndexEntry.put("hash", shardFile.hash());
+            shardIndexEntry.put("size", shardFile.size());
+        }
+
+        return hashedFileWriter.writeJson(prefix, shardIndex);
+    }
+
+    /**
+     * Read the entry files listed by a shard index
+     *
+     * @param shardIndexFile the shard index file
+     * @return the entry files, resolved against the shard index folder
+     */
+    public static List<Path> readShardFiles(Path shardIndexFile) throws IOException {
+        var shardFiles = new ArrayList<Path>();
+        new ObjectMapper().readTree(shardIndexFile.toFile()).forEach(shardIndexEntry -> {
+            if (shardIndexEntry.path("file").isTextual()) {
+                shardFiles.add(shardIndexFile.resolveSibling(shardIndexEntry.get("file").asText()));
+            }
+        });
+        return shardFiles;
+    }
+
+    /**
+     * The title of a component, model or Kamelet, falling back to the title of its schema
+     */
+    private static String getTitle(JsonNode entry) {
+        for (var pointer : List.of("/component/title", "/model/title", "/spec/definition/title",
+                "/propertiesSchema/title")) {
+            var title = entry.at(pointer);
+            if (title.isTextual()) {
+                return title.asText();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The comma separated labels of a component or model, or the label values of a Kamelet
+     */
+    private static List<String> getLabels(JsonNode entry) {
+        var labels = new ArrayList<String>();
+        for (var pointer : List.of("/component/label", "/model/label")) {
+            var label = entry.at(pointer);
+            if (label.isTextual()) {
+                for (var value : label.asText().split(",")) {
+                    if (!value.isBlank()) {
+                        labels.add(value.trim());
+                    }
+                }
+                return labels;
+            }
+        }
+
+        entry.at("/metadata/labels").forEach(value -> {
+            if (value.isTextual()) {
+                labels.add(value.asText());
+            }
+        });
+        return labels;
+    }
+
+    /**
+     * Keep the entry name readable in the file name, while replacing anything which isn't safe in a URL
+     */
+    private static String toFileName(String entryName) {
+        return entryName.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs a set of named catalog tasks concurrently, honoring the dependencies declared between them.
+ * <p>
+ * A task can only depend on tasks that were added before it, so the tasks always form a DAG. Once
+ * all its dependencies are completed, a task receives their results, keyed by task name.
+ * The results are returned in the order in which the tasks were added, regardless of which one finished first.
+ *
+ * @param <T> the type of the task results
+ */
+class CatalogTaskScheduler<T> {
+    private final Map<String, CatalogTask<T>> tasks = new LinkedHashMap<>();
+
+    /**
+     * Add a task without dependencies
+     *
+     * @param name   the unique name of the task, used as key of the results
+     * @param action the action to run
+     */
+    CatalogTaskScheduler<T> addTask(String name, Callable<T> action) {
+        return addTask(name, List.of(), inputs -> action.call());
+    }
+
+    /**
+     * Add a task depending on previously added tasks
+     *
+     * @param name      the unique name of the task, used as key of the results
+     * @param dependsOn the names of the tasks whose results this task needs
+     * @param action    the action to run, it receives the results of its dependencies
+     */
+    CatalogTaskScheduler<T> addTask(String name, List<String> dependsOn, CatalogTaskAction<T> action) {
+        if (tasks.containsKey(name)) {
+            throw new IllegalArgumentException("Task " + name + " is already defined");
+        }
+        for (var dependency : dependsOn) {
+            if (!tasks.containsKey(dependency)) {
+                throw new IllegalArgumentException(
+                        "Task " + name + " depends on " + dependency + " which is not defined before it");
+            }
+        }
+
+        tasks.put(name, new CatalogTask<>(List.copyOf(dependsOn), action));
+        return this;
+    }
+
+    /**
+     * Run all the tasks using up to {@code parallelism} threads
+     *
+     * @param parallelism the maximum number of tasks running at the same time
+     * @return the results of the tasks, in the order they were added
+     * @throws Exception the first error thrown by a task, in the order they were added
+     */
+    Map<String, T> run(int parallelism) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, tasks.size())));
+        try {
+            var futures = new LinkedHashMap<String, CompletableFuture<T>>();
+            tasks.forEach((name, task) -> {
+                var dependencies = new LinkedHashMap<String, CompletableFuture<T>>();
+                task.dependsOn().forEach(dependency -> dependencies.put(dependency, futures.get(dependency)));
+
+                var future = CompletableFuture.allOf(dependencies.values().toArray(CompletableFuture[]::new))
+                        .thenApplyAsync(ignored -> runTask(name, task, dependencies), executor);
+                futures.put(name, future);
+            });
+
+            var answer = new LinkedHashMap<String, T>();
+            for (var entry : futures.entrySet()) {
+                answer.put(entry.getKey(), join(entry.getValue()));
+            }
+
+            return answer;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private T runTask(String name, CatalogTask<T> task, Map<String, CompletableFuture<T>> dependencies) {
+        var inputs = new LinkedHashMap<String, T>();
+        dependencies.forEach((dependency, future) -> inputs.put(dependency, future.join()));
+
+        try {
+            return task.action().apply(inputs);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CompletionException("Error running catalog task " + name, e);
+        }
+    }
+
+    private T join(CompletableFuture<T> future) throws Exception {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            var cause = e.getCause();
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    interface CatalogTaskAction<T> {
+        T apply(Map<String, T> inputs) throws Exception;
+    }
+
+    private record CatalogTask<T>(List<String> dependsOn, CatalogTaskAction<T> action) {
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A folder shared by every catalog of a library, holding the generated files named after the hash of their
+ * content, so a file which is identical across catalog versions, like the Kamelets aggregate, is stored only once
+ * and every catalog definition points to it.
+ * <p>
+ * The store also remembers the aggregates built during the run by their fingerprint, so catalogs with the same
+ * inputs for an aggregate reuse the files generated by the first one instead of generating them again.
+ * Likewise, it remembers the catalogs processed during the run by the fingerprint of their inputs, so the
+ * catalogs which don't depend on the runtime, like the models one, are processed once for every runtime.
+ * When given a {@link ProcessingCache}, the processed catalogs are also reused across runs, and the later catalogs
+ * of the run read them from it instead of the store keeping them in memory. Otherwise, a processed catalog is kept
+ * until every catalog of the run got it.
+ */
+public class ContentStore {
+    private static final Logger LOGGER = Logger.getLogger(ContentStore.class.getName());
+    private static final ObjectMapper jsonMapper = new ObjectMapper();
+    public static final String FOLDER_NAME = "blobs";
+
+    private final Path directory;
+    private final Map<String, CompletableFuture<BuildManifest.AggregateBuild>> aggregates = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<byte[]>> catalogs = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> catalogConsumers = new ConcurrentHashMap<>();
+    private final ProcessingCache processingCache;
+    private final int catalogCount;
+
+    public ContentStore(Path directory) {
+        this(directory, null);
+    }
+
+    public ContentStore(Path directory, ProcessingCache processingCache) {
+        this(directory, processingCache, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param processingCache when present, the processed catalogs are looked up in this cache before processing
+     *                        them, and stored into it once processed, for the next runs
+     * @param catalogCount    the number of catalogs sharing this store, without a processing cache a processed
+     *                        catalog is released once they all got it, and isn't kept at all when there's a single
+     *                        one
+     */
+    public ContentStore(Path directory, ProcessingCache processingCache, int catalogCount) {
+        this.directory = directory.toAbsolutePath().normalize();
+        this.processingCache = processingCache;
+        this.catalogCount = catalogCount;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Get the aggregate built with the given fingerprint during this run, or build it when none was.
+     * Concurrent requests for the same fingerprint wait for the first one instead of building it again,
+     * a failed build isn't remembered so a later request tries again.
+     *
+     * @param fingerprint the fingerprint of the aggregate inputs
+     * @param builder     the builder of the aggregate, its files are relative to the store directory
+     * @return the aggregate, its files are relative to the store directory
+     */
+    BuildManifest.AggregateBuild getOrBuild(String fingerprint, Callable<BuildManifest.AggregateBuild> builder)
+            throws Exception {
+        return getOrCompute(aggregates, fingerprint, builder);
+    }
+
+    /**
+     * Get a copy of the catalog processed with the given fingerprint during this run, or by a previous run when
+     * cached, or process it when none was.
+     * Every caller gets its own copy, as the catalogs can be modified once processed, e.g. when pooling their
+     * definitions: the processed catalog for the caller which processed it, a copy for the others. The catalogs
+     * are kept minified rather than as trees, so they only take a fraction of the memory.
+     *
+     * @param fingerprint the fingerprint of the catalog inputs
+     * @param processor   the processor of the catalog
+     * @return a copy of the catalog
+     */
+    ObjectNode getOrProcess(String fingerprint, Callable<ObjectNode> processor) throws Exception {
+        if (catalogCount <= 1) {
+            return getOrProcessCached(fingerprint, processor);
+        }
+
+        var processedCatalog = new AtomicReference<ObjectNode>();
+        var catalog = getOrCompute(catalogs, fingerprint, () -> {
+            var cachedCatalog = getCached(fingerprint);
+            if (cachedCatalog != null) {
+                return cachedCatalog;
+            }
+
+            processedCatalog.set(processor.call());
+            return putCached(fingerprint, jsonMapper.writeValueAsBytes(processedCatalog.get()));
+        });
+
+        if (processingCache != null) {
+            /* Only the concurrent requests share it, the later ones read it from the processing cache */
+            catalogs.remove(fingerprint);
+        } else if (catalogConsumers.computeIfAbsent(fingerprint, key -> new AtomicInteger()).incrementAndGet()
+                >= catalogCount) {
+            catalogs.remove(fingerprint);
+            catalogConsumers.remove(fingerprint);
+        }
+
+        return processedCatalog.get() != null ? processedCatalog.get() : (ObjectNode) jsonMapper.readTree(catalog);
+    }
+
+    /**
+     * Get the catalog processed with the given fingerprint by a previous run when cached, or process it, without
+     * keeping it for the other catalogs of this run, for the catalogs which depend on the runtime
+     *
+     * @param fingerprint the fingerprint of the catalog inputs
+     * @param processor   the processor of the catalog
+     * @return the catalog
+     */
+    ObjectNode getOrProcessCached(String fingerprint, Callable<ObjectNode> processor) throws Exception {
+        var cachedCatalog = getCached(fingerprint);
+        if (cachedCatalog != null) {
+            return (ObjectNode) jsonMapper.readTree(cachedCatalog);
+        }
+
+        var catalog = processor.call();
+        if (processingCache != null) {
+            putCached(fingerprint, jsonMapper.writeValueAsBytes(catalog));
+        }
+        return catalog;
+    }
+
+    private byte[] getCached(String fingerprint) {
+        var cachedCatalog = processingCache == null ? null : processingCache.get(fingerprint);
+        if (cachedCatalog != null) {
+            LOGGER.fine("Reusing cached catalog: " + fingerprint);
+        }
+        return cachedCatalog;
+    }
+
+    private byte[] putCached(String fingerprint, byte[] catalog) {
+        if (processingCache != null) {
+            processingCache.put(fingerprint, catalog);
+        }
+        return catalog;
+    }
+
+    /**
+     * Concurrent requests for the same key wait for the first one instead of computing it again,
+     * a failed computation isn't remembered so a later request tries again.
+     */
+    private static <T> T getOrCompute(Map<String, CompletableFuture<T>> values, String key, Callable<T> computation)
+            throws Exception {
+        var future = new CompletableFuture<T>();
+        var existing = values.putIfAbsent(key, future);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            }
+        }
+
+        try {
+            var value = computation.call();
+            future.complete(value);
+            return value;
+        } catch (Exception e) {
+            values.remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Remove the files which aren't referenced by any catalog anymore
+     *
+     * @param referencedFiles the files referenced by the generated catalogs
+     */
+    public void retainOnly(Collection<Path> referencedFiles) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        Set<Path> retainedFiles = referencedFiles.stream()
+                .map(file -> file.toAbsolutePath().normalize())
+                .collect(Collectors.toSet());
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (var file : files.filter(file -> !retainedFiles.contains(getOriginalFile(file))).toList()) {
+                LOGGER.fine("Removing unreferenced file: " + file);
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * The file a compressed or binary copy was created from, or the file itself when it isn't a copy
+     */
+    private static Path getOriginalFile(Path file) {
+        return file.resolveSibling(getOriginalFileName(file.getFileName().toString()));
+    }
+
+    /**
+     * The name of the file a compressed or binary copy was created from, or the name itself when it isn't a copy
+     */
+    static String getOriginalFileName(String fileName) {
+        if (fileName.endsWith(FileCompressor.GZIP_EXTENSION)) {
+            return fileName.substring(0, fileName.length() - FileCompressor.GZIP_EXTENSION.length());
+        }
+        if (fileName.endsWith(SmileEncoder.SMILE_EXTENSION)) {
+            return fileName.substring(0, fileName.length() - SmileEncoder.SMILE_EXTENSION.length())
+                    + SmileEncoder.JSON_EXTENSION;
+        }
+        return fileName;
+    }
+}
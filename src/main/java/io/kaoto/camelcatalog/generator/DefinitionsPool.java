@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Collects the {@code definitions} inlined into the {@code propertiesSchema} of every entry of the aggregated
+ * catalogs into a single document, so every definition is written once per catalog version instead of once
+ * per EIP or entity using it.
+ * <p>
+ * The pooled schemas reference the document through {@code $ref}s like
+ * {@code camel-catalog-aggregate-definitions-<hash>.json#/definitions/org.apache.camel.model.ToDefinition},
+ * while the definitions keep referencing each other locally, e.g. {@code #/definitions/...}.
+ * A schema holding a definition which differs from the one already pooled under the same name keeps all its
+ * definitions inlined, so a pooled {@code $ref} always resolves to the very same definition.
+ */
+class DefinitionsPool {
+    private static final String DEFINITIONS = "definitions";
+    private static final String PROPERTIES_SCHEMA = "propertiesSchema";
+    private static final String LOCAL_REF_PREFIX = "#/" + DEFINITIONS + "/";
+
+    private final ObjectMapper jsonMapper;
+    private final Map<String, JsonNode> definitions = new TreeMap<>();
+    private final List<ObjectNode> pooledSchemas = new ArrayList<>();
+
+    DefinitionsPool(ObjectMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * Whether any entry of the catalog has definitions inlined in its properties schema
+     */
+    static boolean hasDefinitions(ObjectNode catalog) {
+        for (var entry : catalog) {
+            if (entry.path(PROPERTIES_SCHEMA).path(DEFINITIONS).isObject()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Move the definitions of every entry of the catalog into the pool, the catalog entries are only
+     * pointed to the pool once it's written, see {@link #relocateRefs(String)}
+     */
+    void addCatalog(ObjectNode catalog) {
+        for (var entry : catalog) {
+            if (entry.path(PROPERTIES_SCHEMA).isObject()) {
+                addSchema((ObjectNode) entry.get(PROPERTIES_SCHEMA));
+            }
+        }
+    }
+
+    private void addSchema(ObjectNode schema) {
+        if (!schema.path(DEFINITIONS).isObject()) {
+            return;
+        }
+
+        var schemaDefinitions = (ObjectNode) schema.get(DEFINITIONS);
+        for (var field : schemaDefinitions.properties()) {
+            var pooledDefinition = definitions.get(field.getKey());
+            if (pooledDefinition != null && !pooledDefinition.equals(field.getValue())) {
+                return;
+            }
+        }
+
+        schemaDefinitions.properties().forEach(field -> definitions.putIfAbsent(field.getKey(), field.getValue()));
+        schema.remove(DEFINITIONS);
+        pooledSchemas.add(schema);
+    }
+
+    boolean isEmpty() {
+        return definitions.isEmpty();
+    }
+
+    /**
+     * The pool document, with its definitions sorted by name so its content doesn't depend on the order
+     * in which the catalogs were added
+     */
+    ObjectNode toJson() {
+        var root = jsonMapper.createObjectNode();
+        root.putObject(DEFINITIONS).setAll(definitions);
+        return root;
+    }
+
+    /**
+     * Point the local {@code $ref}s of the pooled schemas to the definitions of the written pool document
+     *
+     * @param fileName the pool document file name, relative to the catalogs
+     */
+    void relocateRefs(String fileName) {
+        pooledSchemas.forEach(schema -> relocateRefs(schema, fileName));
+    }
+
+    private void relocateRefs(JsonNode node, String fileName) {
+        if (node.isObject()) {
+            var ref = node.get("$ref");
+            if (ref != null && ref.isTextual() && ref.asText().startsWith(LOCAL_REF_PREFIX)) {
+                ((ObjectNode) node).put("$ref", fileName + ref.asText());
+            }
+        }
+
+        for (var child : node) {
+            relocateRefs(child, fileName);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import io.kaoto.camelcatalog.model.CompressedFile;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes a gzip compressed copy next to the generated files, e.g. {@code <prefix>-<hash>.json.gz}, so static
+ * servers can serve them without compressing them on every request.
+ * <p>
+ * The files are compressed in the background while the generation goes on, and only once: the generated files
+ * are named after their content, so an existing compressed copy, like the one of a file shared by another
+ * catalog, is reused as is.
+ */
+class FileCompressor {
+    private static final Logger LOGGER = Logger.getLogger(FileCompressor.class.getName());
+    static final String GZIP = "gzip";
+    static final String GZIP_EXTENSION = ".gz";
+
+    private final Executor executor;
+    private final Map<Path, CompletableFuture<CompressedFile>> compressedFiles = new ConcurrentHashMap<>();
+
+    FileCompressor() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    FileCompressor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Compress the given file in the background, unless it was already requested
+     *
+     * @param file the file to compress
+     * @return the compressed copy of the file, once written
+     */
+    CompletableFuture<CompressedFile> compress(Path file) {
+        return compressedFiles.computeIfAbsent(file.toAbsolutePath().normalize(),
+                key -> CompletableFuture.supplyAsync(() -> gzip(key), executor));
+    }
+
+    /**
+     * Get the compressed copies of the given file, waiting for them to be written
+     *
+     * @param file the compressed file
+     * @return the compressed copies keyed by their content encoding, empty if the file couldn't be compressed
+     */
+    Map<String, CompressedFile> getCompressedFiles(Path file) {
+        try {
+            return Map.of(GZIP, compress(file).join());
+        } catch (CompletionException e) {
+            LOGGER.log(Level.WARNING, "Cannot compress " + file, e.getCause());
+            return Map.of();
+        }
+    }
+
+    /**
+     * Wait for every requested compression to finish
+     */
+    void awaitAll() {
+        compressedFiles.forEach((file, compressedFile) -> getCompressedFiles(file));
+    }
+
+    private CompressedFile gzip(Path file) {
+        var compressedFile = file.resolveSibling(file.getFileName() + GZIP_EXTENSION);
+
+        try {
+            if (!Files.isRegularFile(compressedFile)
+                    || Files.getLastModifiedTime(compressedFile).compareTo(Files.getLastModifiedTime(file)) < 0) {
+                Path tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+                try {
+                    try (var outputStream = new BestCompressionGZIPOutputStream(
+                            new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                        Files.copy(file, outputStream);
+                    }
+                    Files.move(tempFile, compressedFile, StandardCopyOption.REPLACE_EXISTING,
+                            StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(tempFile);
+                }
+            }
+
+            return new CompressedFile(compressedFile.getFileName().toString(), Files.size(compressedFile),
+                    getHash(compressedFile));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String getHash(Path file) throws IOException {
+        try {
+            var digest = MessageDigest.getInstance("MD5");
+            try (var outputStream = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+                Files.copy(file, outputStream);
+            }
+            return new BigInteger(1, digest.digest()).toString(16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * The catalogs are written once and downloaded many times, so they are worth the slowest compression level
+     */
+    static class BestCompressionGZIPOutputStream extends GZIPOutputStream {
+        BestCompressionGZIPOutputStream(OutputStream outputStream) throws IOException {
+            super(outputStream);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event spanning the write of a generated file, named after its content hash
+ */
+@Name("io.kaoto.camelcatalog.FileWrite")
+@Label("Catalog File Write")
+@Description("Serialization, hashing and renaming of a generated file")
+@Category({"Kaoto", "Catalog Generator"})
+@StackTrace(false)
+class FileWriteEvent extends jdk.jfr.Event {
+    @Label("File Name")
+    String fileName;
+
+    @Label("Size")
+    @DataAmount
+    long size;
+
+    @Label("Hash Time")
+    @Description("Time spent computing the content hash")
+    @Timespan
+    long hashTime;
+
+    @Label("Reused")
+    @Description("Whether a file with the same content already existed")
+    boolean reused;
+}
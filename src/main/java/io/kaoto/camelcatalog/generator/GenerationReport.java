@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Machine-readable report of where the time and memory of a run went, with the phases of every generated
+ * catalog, so the generation of each version can be compared across builds.
+ * <p>
+ * The report is written into the build folder, next to the build manifest, the catalogs are keyed by their folder,
+ * relative to the output folder. The aggregates reused from a previous build, or generated by another catalog
+ * of the same run, have no phases.
+ */
+public class GenerationReport {
+    public static final String FILE_NAME = "generation-report.json";
+
+    private static final ObjectMapper jsonMapper = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private final String generatorVersion = BuildManifest.getCurrentGeneratorVersion();
+    private final Map<String, List<PhaseRecorder.Phase>> catalogs = new ConcurrentSkipListMap<>();
+
+    public String getGeneratorVersion() {
+        return generatorVersion;
+    }
+
+    public Map<String, List<PhaseRecorder.Phase>> getCatalogs() {
+        return catalogs;
+    }
+
+    /**
+     * Add the phases of a generated catalog
+     *
+     * @param catalogFolder the catalog folder, relative to the output folder
+     */
+    public void addCatalog(String catalogFolder, List<PhaseRecorder.Phase> phases) {
+        catalogs.put(catalogFolder, phases);
+    }
+
+    public void write(File buildFolder) throws IOException {
+        jsonMapper.writerWithDefaultPrettyPrinter().writeValue(buildFolder.toPath().resolve(FILE_NAME).toFile(), this);
+    }
+}
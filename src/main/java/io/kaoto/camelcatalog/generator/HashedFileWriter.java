@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Writes the generated files named after the hash of their content, e.g. {@code <prefix>-<hash>.json}.
+ * <p>
+ * The content is streamed to a temporary file while its hash is computed over the very same bytes, and then
+ * atomically renamed to its final name, so every output is serialized exactly once and a partially written
+ * file is never visible.
+ */
+class HashedFileWriter {
+    private final ObjectMapper jsonMapper;
+    private final Path directory;
+    private final FileCompressor fileCompressor;
+    private final JsonWriterFactory jsonWriterFactory;
+
+    HashedFileWriter(ObjectMapper jsonMapper, Path directory) {
+        this(jsonMapper, directory, null);
+    }
+
+    /**
+     * @param fileCompressor when present, every written file is also compressed in the background
+     */
+    HashedFileWriter(ObjectMapper jsonMapper, Path directory, FileCompressor fileCompressor) {
+        this(jsonMapper, directory, fileCompressor, JsonWriterFactory.PRETTY);
+    }
+
+    /**
+     * @param fileCompressor    when present, every written file is also compressed in the background
+     * @param jsonWriterFactory whether the JSON files are pretty-printed or minified
+     */
+    HashedFileWriter(ObjectMapper jsonMapper, Path directory, FileCompressor fileCompressor,
+                     JsonWriterFactory jsonWriterFactory) {
+        this.jsonMapper = jsonMapper;
+        this.directory = directory;
+        this.fileCompressor = fileCompressor;
+        this.jsonWriterFactory = jsonWriterFactory;
+    }
+
+    /**
+     * Write a JSON tree
+     *
+     * @param prefix the file name prefix
+     * @param node   the JSON tree to write
+     * @return the name of the written file, relative to the directory
+     */
+    String writeJson(String prefix, JsonNode node) throws IOException {
+        return writeJsonFile(prefix, node).fileName();
+    }
+
+    /**
+     * Write a JSON tree
+     *
+     * @param prefix the file name prefix
+     * @param node   the JSON tree to write
+     * @return the written file, its name is relative to the directory
+     */
+    HashedFile writeJsonFile(String prefix, JsonNode node) throws IOException {
+        return write(prefix, outputStream -> {
+            try (var jsonGenerator = jsonWriterFactory.createGenerator(outputStream)) {
+                jsonMapper.writeTree(jsonGenerator, node);
+            }
+        });
+    }
+
+    /**
+     * Write a JSON representation of the given value, using the mapper configuration
+     *
+     * @param prefix the file name prefix
+     * @param value  the value to serialize
+     * @return the name of the written file, relative to the directory
+     */
+    String writeValue(String prefix, Object value) throws IOException {
+        return write(prefix, outputStream -> jsonWriterFactory.writer(jsonMapper).writeValue(outputStream, value))
+                .fileName();
+    }
+
+    /**
+     * Write an already serialized content, encoded as UTF-8
+     *
+     * @param prefix  the file name prefix
+     * @param content the content to write
+     * @return the name of the written file, relative to the directory
+     */
+    String writeString(String prefix, String content) throws IOException {
+        return write(prefix, outputStream -> outputStream.write(content.getBytes(StandardCharsets.UTF_8))).fileName();
+    }
+
+    /**
+     * Write the content produced by the given writer, the hash is computed over the exact bytes written to disk
+     */
+    private HashedFile write(String prefix, ContentWriter contentWriter) throws IOException {
+        var event = new FileWriteEvent();
+        event.begin();
+        Files.createDirectories(directory);
+        Path tempFile = Files.createTempFile(directory, prefix, ".tmp");
+        try {
+            var digest = getDigest();
+            try (var channel = FileChannel.open(tempFile, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                 var outputStream = new TimedDigestOutputStream(
+                         new BufferedOutputStream(Channels.newOutputStream(channel)), digest)) {
+                contentWriter.write(outputStream);
+                event.hashTime = outputStream.hashNanos;
+            }
+
+            var hash = new BigInteger(1, digest.digest()).toString(16);
+            var fileName = String.format("%s-%s.json", prefix, hash);
+            var file = directory.resolve(fileName);
+            /* The same name means the same content, an existing file is left untouched */
+            event.reused = Files.isRegularFile(file);
+            if (!event.reused) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            if (fileCompressor != null) {
+                fileCompressor.compress(file);
+            }
+
+            var hashedFile = new HashedFile(fileName, hash, Files.size(file));
+            event.fileName = fileName;
+            event.size = hashedFile.size();
+            event.commit();
+
+            return hashedFile;
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static MessageDigest getDigest() throws IOException {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * A written file
+     *
+     * @param fileName the file name, relative to the directory
+     * @param hash     the MD5 hash of the file content, also part of its name
+     * @param size     the size in bytes of the file
+     */
+    record HashedFile(String fileName, String hash, long size) {
+    }
+
+    /**
+     * Updates the digest with the written bytes, measuring the time spent hashing them apart from writing them
+     */
+    private static class TimedDigestOutputStream extends DigestOutputStream {
+        private long hashNanos;
+
+        TimedDigestOutputStream(OutputStream outputStream, MessageDigest digest) {
+            super(outputStream, digest);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            var start = System.nanoTime();
+            digest.update((byte) b);
+            hashNanos += System.nanoTime() - start;
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            var start = System.nanoTime();
+            digest.update(b, off, len);
+            hashNanos += System.nanoTime() - start;
+            out.write(b, off, len);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ContentWriter {
+        void write(OutputStream outputStream) throws IOException;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+
+/**
+ * Creates every JSON writer of the generated files, so they are either all pretty-printed or all minified.
+ */
+public enum JsonWriterFactory {
+    /**
+     * Indented JSON, easier to read and to diff
+     */
+    PRETTY,
+    /**
+     * Minified JSON, without any whitespace between the tokens
+     */
+    COMPACT;
+
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    public static JsonWriterFactory of(boolean compact) {
+        return compact ? COMPACT : PRETTY;
+    }
+
+    public JsonGenerator createGenerator(OutputStream outputStream) throws IOException {
+        return configure(jsonFactory.createGenerator(outputStream, JsonEncoding.UTF8));
+    }
+
+    public JsonGenerator createGenerator(Writer writer) throws IOException {
+        return configure(jsonFactory.createGenerator(writer));
+    }
+
+    public ObjectWriter writer(ObjectMapper jsonMapper) {
+        return this == PRETTY ? jsonMapper.writerWithDefaultPrettyPrinter() : jsonMapper.writer();
+    }
+
+    /**
+     * Serialize a JSON tree to a string
+     */
+    public String writeTree(ObjectMapper jsonMapper, JsonNode node) throws IOException {
+        var writer = new StringWriter();
+        try (var jsonGenerator = createGenerator(writer)) {
+            jsonMapper.writeTree(jsonGenerator, node);
+        }
+        return writer.toString();
+    }
+
+    private JsonGenerator configure(JsonGenerator jsonGenerator) {
+        return this == PRETTY ? jsonGenerator.useDefaultPrettyPrinter() : jsonGenerator;
+    }
+}
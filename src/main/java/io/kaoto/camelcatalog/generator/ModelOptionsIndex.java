@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.tooling.model.BaseOptionModel;
+
+/**
+ * Lookup of the options of a Camel model by their name.
+ * <p>
+ * Looking up an option doesn't require scanning the whole list of options, which matters for components with
+ * hundreds of options. The schema enhancer keeps one index per model, shared by every sort and enhancement of its
+ * schema.
+ */
+public class ModelOptionsIndex<O extends BaseOptionModel> {
+    private final Map<String, O> optionsByName;
+
+    public ModelOptionsIndex(List<O> options) {
+        optionsByName = new HashMap<>(options.size() * 2);
+        // Keep the first option for a given name, the same one a linear scan would find
+        options.forEach(option -> optionsByName.putIfAbsent(option.getName(), option));
+    }
+
+    /**
+     * @param name the option name
+     * @return the option with the given name or null if the model doesn't have it
+     */
+    public O getOption(String name) {
+        return optionsByName.get(name);
+    }
+
+    /**
+     * @param name the option name
+     * @return the catalog index of the option or {@link Integer#MAX_VALUE} if the model doesn't have it
+     */
+    public int getIndex(String name) {
+        O option = optionsByName.get(name);
+        return option != null ? option.getIndex() : Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Records the wall time, CPU time and allocated bytes of the phases of a catalog generation.
+ * <p>
+ * The CPU time and allocated bytes are read from the per-thread counters of the JVM, so they only account for
+ * the thread running the phase. A phase handing its work to other threads, e.g. {@code processCatalog}, mostly
+ * reports its wall time, the work of those threads is recorded by their own phases. A counter that isn't
+ * supported by the JVM is reported as {@code -1}.
+ */
+public class PhaseRecorder {
+    private static final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    private final long origin = System.nanoTime();
+    private final Queue<Phase> phases = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Run an action and record it as a phase, even when it fails
+     *
+     * @param name   the phase name, nested phases are named after their parent, e.g. {@code processCatalog/models}
+     * @param action the action to run
+     * @return the action result
+     */
+    public <T, E extends Exception> T measure(String name, PhaseAction<T, E> action) throws E {
+        var start = System.nanoTime();
+        var startCpuTime = getCurrentThreadCpuTime();
+        var startAllocatedBytes = getCurrentThreadAllocatedBytes();
+        try {
+            return action.run();
+        } finally {
+            var wallTime = System.nanoTime() - start;
+            phases.add(new Phase(name, Thread.currentThread().getName(), start - origin, wallTime,
+                    difference(startCpuTime, getCurrentThreadCpuTime()),
+                    difference(startAllocatedBytes, getCurrentThreadAllocatedBytes())));
+        }
+    }
+
+    /**
+     * Run an action without result and record it as a phase, even when it fails
+     *
+     * @param name   the phase name, nested phases are named after their parent, e.g. {@code processCatalog/models}
+     * @param action the action to run
+     */
+    public <E extends Exception> void measure(String name, PhaseRunnable<E> action) throws E {
+        measure(name, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Get the recorded phases, in the order they started
+     */
+    public List<Phase> getPhases() {
+        return phases.stream().sorted(Comparator.comparingLong(Phase::startNanos)).toList();
+    }
+
+    private static long difference(long start, long end) {
+        return start < 0 || end < 0 ? -1 : end - start;
+    }
+
+    private static long getCurrentThreadCpuTime() {
+        if (!threadMXBean.isCurrentThreadCpuTimeSupported() || !threadMXBean.isThreadCpuTimeEnabled()) {
+            return -1;
+        }
+        return threadMXBean.getCurrentThreadCpuTime();
+    }
+
+    private static long getCurrentThreadAllocatedBytes() {
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean allocationMXBean
+                && allocationMXBean.isThreadAllocatedMemorySupported()
+                && allocationMXBean.isThreadAllocatedMemoryEnabled()) {
+            return allocationMXBean.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    /**
+     * A recorded phase
+     *
+     * @param name           the phase name
+     * @param thread         the name of the thread running the phase
+     * @param startNanos     when the phase started, in nanoseconds since the recorder was created
+     * @param wallNanos      the elapsed time of the phase, in nanoseconds
+     * @param cpuNanos       the CPU time used by the thread during the phase, in nanoseconds
+     * @param allocatedBytes the bytes allocated by the thread during the phase
+     */
+    public record Phase(String name, String thread, long startNanos, long wallNanos, long cpuNanos,
+                        long allocatedBytes) {
+    }
+
+    @FunctionalInterface
+    public interface PhaseAction<T, E extends Exception> {
+        T run() throws E;
+    }
+
+    @FunctionalInterface
+    public interface PhaseRunnable<E extends Exception> {
+        void run() throws E;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the processed catalogs between runs, so the catalog versions which never change, like the released ones,
+ * only cost a file read instead of processing them again every time.
+ * <p>
+ * Every catalog is stored minified into its own file, named after the fingerprint of its inputs, which covers the
+ * generator version, so a rebuilt generator keeps reusing the catalogs while a changed one doesn't. The cache is
+ * bounded in size: once exceeded, the least recently used catalogs are removed, the last modification of the files
+ * recording when they were last used. The catalogs of a previous generator are never used again, so they go first.
+ */
+public class ProcessingCache {
+    private static final Logger LOGGER = Logger.getLogger(ProcessingCache.class.getName());
+    public static final String FOLDER_NAME = "catalogs";
+
+    private final Path directory;
+    private final long maxSize;
+    /* The size of the cached catalogs, only listed once and then kept along, -1 until then */
+    private long size = -1;
+
+    /**
+     * @param directory the directory holding the cached catalogs
+     * @param maxSize   the maximum size in bytes of the cached catalogs
+     */
+    public ProcessingCache(Path directory, long maxSize) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Get the catalog processed with the given fingerprint by a previous run, and mark it as recently used
+     *
+     * @param fingerprint the fingerprint of the catalog inputs
+     * @return the minified catalog or null if it isn't cached
+     */
+    byte[] get(String fingerprint) {
+        var file = getFile(fingerprint);
+        try {
+            var catalog = Files.readAllBytes(file);
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+            return catalog;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Cannot read the cached catalog, processing it again: " + e);
+            return null;
+        }
+    }
+
+    /**
+     * Store the catalog processed with the given fingerprint, removing the least recently used catalogs when
+     * the cache gets too big. A catalog which can't be stored is only processed again by the next run.
+     *
+     * @param fingerprint the fingerprint of the catalog inputs
+     * @param catalog     the minified catalog
+     */
+    void put(String fingerprint, byte[] catalog) {
+        try {
+            Files.createDirectories(directory);
+            var file = getFile(fingerprint);
+            var replacedSize = Files.exists(file) ? Files.size(file) : 0;
+            var tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try {
+                Files.write(tempFile, catalog);
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+
+            addSize(catalog.length - replacedSize);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Cannot cache the processed catalog: " + e);
+        }
+    }
+
+    /**
+     * Keep the size of the cache along, the cached catalogs are only listed the first time, and once the cache
+     * exceeds its maximum size
+     */
+    private synchronized void addSize(long addedSize) throws IOException {
+        if (size < 0) {
+            size = listCachedFiles().stream().mapToLong(CachedFile::size).sum();
+        } else {
+            size += addedSize;
+        }
+
+        if (size > maxSize) {
+            evict();
+        }
+    }
+
+    /**
+     * Remove the least recently used catalogs, until the cache takes 90% of its maximum size, so the next catalogs
+     * can be stored without listing the cache again
+     */
+    private void evict() throws IOException {
+        var cachedFiles = listCachedFiles();
+        size = cachedFiles.stream().mapToLong(CachedFile::size).sum();
+        for (var cachedFile : cachedFiles) {
+            if (size <= maxSize * 0.9) {
+                break;
+            }
+            LOGGER.fine("Removing least recently used catalog: " + cachedFile.file());
+            Files.deleteIfExists(cachedFile.file());
+            size -= cachedFile.size();
+        }
+    }
+
+    /**
+     * @return the cached catalogs, the least recently used first
+     */
+    private List<CachedFile> listCachedFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".json"))
+                    .map(CachedFile::of)
+                    .filter(Objects::nonNull)
+                    .sorted(Comparator.comparing(CachedFile::lastUsed))
+                    .toList();
+        }
+    }
+
+    private Path getFile(String fingerprint) {
+        return directory.resolve(fingerprint.replace(':', '-') + ".json");
+    }
+
+    private record CachedFile(Path file, long size, FileTime lastUsed) {
+        /**
+         * @return the cached file or null if it was removed meanwhile, e.g. by a concurrent run
+         */
+        static CachedFile of(Path file) {
+            try {
+                return new CachedFile(file, Files.size(file), Files.getLastModifiedTime(file));
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+}
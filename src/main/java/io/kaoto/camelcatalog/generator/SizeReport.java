@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import io.kaoto.camelcatalog.model.CatalogDefinition;
+import io.kaoto.camelcatalog.model.CatalogDefinitionEntry;
+import org.apache.commons.io.output.CountingOutputStream;
+import org.apache.commons.io.output.NullOutputStream;
+import org.apache.commons.io.output.TeeOutputStream;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * Measures how many bytes the generated files take pretty-printed, minified, and minified then gzip compressed,
+ * for every file of every catalog version.
+ * <p>
+ * Every file is read once and written to both layouts and to the compressor at the same time, only counting the
+ * bytes. The files shared by several catalog versions are only measured once.
+ */
+public class SizeReport {
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    private final Map<String, List<FileSize>> catalogs = new ConcurrentSkipListMap<>();
+    private final Map<Path, FileSize> measuredFiles = new ConcurrentHashMap<>();
+
+    /**
+     * Measure the index file and every catalog and schema file of a catalog definition
+     *
+     * @param indexFile the catalog definition index file, its files are relative to its folder
+     */
+    public void addCatalog(Path indexFile, CatalogDefinition catalogDefinition) throws IOException {
+        var catalogFolder = indexFile.getParent();
+        var files = new ArrayList<String>();
+        files.add(indexFile.getFileName().toString());
+        Stream.concat(catalogDefinition.getCatalogs().values().stream(),
+                        catalogDefinition.getSchemas().values().stream())
+                .filter(Objects::nonNull)
+                .map(CatalogDefinitionEntry::file)
+                .forEach(files::add);
+
+        var fileSizes = new ArrayList<FileSize>();
+        for (var file : files) {
+            fileSizes.add(measure(catalogFolder.resolve(file).normalize()));
+        }
+        catalogs.put(catalogDefinition.getName(), fileSizes);
+    }
+
+    public Map<String, List<FileSize>> getCatalogs() {
+        return catalogs;
+    }
+
+    /**
+     * Format the report as a table, with a line per file and a total per catalog version
+     */
+    public String format() {
+        var report = new StringBuilder(String.format("%-80s %12s %12s %12s%n", "File", "Raw", "Compact",
+                "Compressed"));
+        catalogs.forEach((catalogName, fileSizes) -> {
+            report.append(catalogName).append(System.lineSeparator());
+            fileSizes.forEach(fileSize -> report.append(formatLine("  " + fileSize.file(), fileSize)));
+            report.append(formatLine("  Total", FileSize.sum(catalogName, fileSizes)));
+        });
+        return report.toString();
+    }
+
+    private static String formatLine(String name, FileSize fileSize) {
+        return String.format("%-80s %12d %12d %12d  (%.0f%% / %.0f%%)%n", name, fileSize.raw(), fileSize.compact(),
+                fileSize.compressed(), 100.0 * fileSize.compact() / Math.max(1, fileSize.raw()),
+                100.0 * fileSize.compressed() / Math.max(1, fileSize.raw()));
+    }
+
+    private FileSize measure(Path file) throws IOException {
+        var fileSize = measuredFiles.get(file);
+        if (fileSize == null) {
+            fileSize = measureFile(file);
+            measuredFiles.put(file, fileSize);
+        }
+        return fileSize;
+    }
+
+    static FileSize measureFile(Path file) throws IOException {
+        var rawOutputStream = new CountingOutputStream(NullOutputStream.INSTANCE);
+        var compactOutputStream = new CountingOutputStream(NullOutputStream.INSTANCE);
+        var compressedOutputStream = new CountingOutputStream(NullOutputStream.INSTANCE);
+
+        try (var parser = jsonFactory.createParser(file.toFile());
+             var rawGenerator = JsonWriterFactory.PRETTY.createGenerator(rawOutputStream);
+             var gzipOutputStream = new FileCompressor.BestCompressionGZIPOutputStream(compressedOutputStream);
+             var compactGenerator = JsonWriterFactory.COMPACT.createGenerator(
+                     new TeeOutputStream(compactOutputStream, gzipOutputStream))) {
+            while (parser.nextToken() != null) {
+                rawGenerator.copyCurrentEvent(parser);
+                compactGenerator.copyCurrentEvent(parser);
+            }
+        }
+
+        return new FileSize(file.getFileName().toString(), rawOutputStream.getByteCount(),
+                compactOutputStream.getByteCount(), compressedOutputStream.getByteCount());
+    }
+
+    /**
+     * The sizes in bytes of a file
+     *
+     * @param file       the file name
+     * @param raw        pretty-printed
+     * @param compact    minified
+     * @param compressed minified then gzip compressed
+     */
+    public record FileSize(String file, long raw, long compact, long compressed) {
+        static FileSize sum(String file, List<FileSize> fileSizes) {
+            return new FileSize(file,
+                    fileSizes.stream().mapToLong(FileSize::raw).sum(),
+                    fileSizes.stream().mapToLong(FileSize::compact).sum(),
+                    fileSizes.stream().mapToLong(FileSize::compressed).sum());
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import io.kaoto.camelcatalog.model.BinaryFile;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Writes a Smile encoded copy next to the generated JSON files, e.g. {@code <prefix>-<hash>.sml}, for the JVM
+ * consumers which parse every catalog.
+ * <p>
+ * Both the property names and the short string values are written as back-references once seen, so the keys and
+ * values repeated all over the catalogs are only written once. The JSON files are transcoded token by token in
+ * the background, and only once: the generated files are named after their content, so an existing Smile copy,
+ * like the one of a file shared by another catalog, is reused as is.
+ */
+class SmileEncoder {
+    private static final Logger LOGGER = Logger.getLogger(SmileEncoder.class.getName());
+    static final String SMILE = "smile";
+    static final String SMILE_EXTENSION = ".sml";
+    static final String JSON_EXTENSION = ".json";
+
+    private static final JsonFactory jsonFactory = new JsonFactory();
+    private static final SmileFactory smileFactory = SmileFactory.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build();
+
+    private final Executor executor;
+    private final Map<Path, CompletableFuture<BinaryFile>> encodedFiles = new ConcurrentHashMap<>();
+
+    SmileEncoder() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    SmileEncoder(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Encode the given JSON file in the background, unless it was already requested
+     *
+     * @param file the JSON file to encode
+     * @return the Smile copy of the file, once written
+     */
+    CompletableFuture<BinaryFile> encode(Path file) {
+        return encodedFiles.computeIfAbsent(file.toAbsolutePath().normalize(),
+                key -> CompletableFuture.supplyAsync(() -> toSmile(key), executor));
+    }
+
+    /**
+     * Get the binary copies of the given JSON file, waiting for them to be written
+     *
+     * @param file the encoded JSON file
+     * @return the binary copies keyed by their format, empty if the file couldn't be encoded
+     */
+    Map<String, BinaryFile> getBinaryFiles(Path file) {
+        try {
+            return Map.of(SMILE, encode(file).join());
+        } catch (CompletionException e) {
+            LOGGER.log(Level.WARNING, "Cannot encode " + file, e.getCause());
+            return Map.of();
+        }
+    }
+
+    /**
+     * Wait for every requested encoding to finish
+     */
+    void awaitAll() {
+        encodedFiles.forEach((file, encodedFile) -> getBinaryFiles(file));
+    }
+
+    /**
+     * The Smile copy name of the given JSON file name
+     */
+    static String getSmileFileName(String fileName) {
+        var baseName = fileName.endsWith(JSON_EXTENSION)
+                ? fileName.substring(0, fileName.length() - JSON_EXTENSION.length())
+                : fileName;
+        return baseName + SMILE_EXTENSION;
+    }
+
+    private BinaryFile toSmile(Path file) {
+        var smileFile = file.resolveSibling(getSmileFileName(file.getFileName().toString()));
+
+        try {
+            if (!Files.isRegularFile(smileFile)
+                    || Files.getLastModifiedTime(smileFile).compareTo(Files.getLastModifiedTime(file)) < 0) {
+                Path tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+                try {
+                    try (var parser = jsonFactory.createParser(file.toFile());
+                         var generator = smileFactory.createGenerator(
+                                 new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                        while (parser.nextToken() != null) {
+                            generator.copyCurrentEvent(parser);
+                        }
+                    }
+                    Files.move(tempFile, smileFile, StandardCopyOption.REPLACE_EXISTING,
+                            StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(tempFile);
+                }
+            }
+
+            return new BinaryFile(smileFile.getFileName().toString(), Files.size(smileFile),
+                    Util.generateHash(smileFile));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -15,11 +15,10 @@
  */
 package io.kaoto.camelcatalog.generator;
 
-import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
-import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -39,7 +38,7 @@ public class Util {
     }
 
     public static String generateHash(String content) throws Exception {
-        return content == null ? null : generateHash(content.getBytes());
+        return content == null ? null : generateHash(content.getBytes(StandardCharsets.UTF_8));
     }
 
     public static String getNormalizedFolder(String folder) {
@@ -53,10 +52,10 @@ public class Util {
     }
 
     public static String getPrettyJSON(Object node) throws IOException {
-        StringWriter writer = new StringWriter();
-        try (var jsonGenerator = new JsonFactory().createGenerator(writer).useDefaultPrettyPrinter()) {
-            jsonMapper.writeTree(jsonGenerator, jsonMapper.valueToTree(node));
-        }
-        return writer.toString();
+        return getJSON(node, JsonWriterFactory.PRETTY);
+    }
+
+    public static String getJSON(Object node, JsonWriterFactory jsonWriterFactory) throws IOException {
+        return jsonWriterFactory.writeTree(jsonMapper, jsonMapper.valueToTree(node));
     }
 }
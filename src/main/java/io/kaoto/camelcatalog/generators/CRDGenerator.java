@@ -3,6 +3,7 @@ package io.kaoto.camelcatalog.generators;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinition;
+import io.kaoto.camelcatalog.generator.JsonWriterFactory;
 import io.kaoto.camelcatalog.generator.Util;
 
 import java.util.LinkedHashMap;
@@ -15,9 +16,15 @@ public class CRDGenerator {
     private static final Logger LOGGER = Logger.getLogger(CRDGenerator.class.getName());
     private static final ObjectMapper yamlMapper = new ObjectMapper(new YAMLFactory());
     private final List<String> camelKCRDs;
+    private final JsonWriterFactory jsonWriterFactory;
 
     public CRDGenerator(List<String> camelKCRDs) {
+        this(camelKCRDs, JsonWriterFactory.PRETTY);
+    }
+
+    public CRDGenerator(List<String> camelKCRDs, JsonWriterFactory jsonWriterFactory) {
         this.camelKCRDs = camelKCRDs;
+        this.jsonWriterFactory = jsonWriterFactory;
     }
 
     public Map<String, String> generate() {
@@ -29,7 +36,7 @@ public class CRDGenerator {
                 var schema = crd.getSpec().getVersions().get(0).getSchema().getOpenAPIV3Schema();
                 var name = crd.getSpec().getNames().getKind();
 
-                answer.put(name, Util.getPrettyJSON(schema));
+                answer.put(name, Util.getJSON(schema, jsonWriterFactory));
             } catch (Exception e) {
                 LOGGER.log(Level.SEVERE, e.toString(), e);
             }
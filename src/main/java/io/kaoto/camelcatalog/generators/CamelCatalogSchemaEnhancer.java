@@ -19,17 +19,22 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.kaoto.camelcatalog.generator.CamelYamlDSLKeysComparator;
+import io.kaoto.camelcatalog.generator.ModelOptionsIndex;
 import org.apache.camel.catalog.CamelCatalog;
 import org.apache.camel.tooling.model.*;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class CamelCatalogSchemaEnhancer {
 
     private final CamelCatalog camelCatalog;
     private final Map<String, String> JAVA_TYPE_TO_MODEL_NAME = new HashMap<>();
     private final Map<String, String> MODEL_NAME_TO_JAVA_TYPE = new HashMap<>();
+    private final Map<String, EipModel> eipModelsByName = new ConcurrentHashMap<>();
+    private final Map<BaseModel<?>, ModelOptionsIndex<?>> optionsIndexesByModel =
+            Collections.synchronizedMap(new IdentityHashMap<>());
     ObjectMapper jsonMapper = new ObjectMapper();
 
     public CamelCatalogSchemaEnhancer(CamelCatalog camelCatalog) {
@@ -94,7 +99,7 @@ public class CamelCatalogSchemaEnhancer {
      * @param modelNode the JSON schema node of the model
      */
     void sortPropertiesAccordingToCatalog(String modelName, ObjectNode modelNode) {
-        EipModel model = camelCatalog.eipModel(modelName);
+        EipModel model = getEipModel(modelName);
         if (model == null) {
             return;
         }
@@ -111,7 +116,7 @@ public class CamelCatalogSchemaEnhancer {
     void sortPropertiesAccordingToCatalog(EipModel model, ObjectNode modelNode) {
         var modelNodeProperties = modelNode.withObject("/properties").properties().stream()
                 .map(Map.Entry::getKey).sorted(
-                        new CamelYamlDSLKeysComparator(model.getOptions()))
+                        new CamelYamlDSLKeysComparator(getOptionsIndex(model)))
                 .toList();
         var sortedSchemaProperties = jsonMapper.createObjectNode();
 
@@ -130,7 +135,7 @@ public class CamelCatalogSchemaEnhancer {
      * @param modelNode the JSON schema node of the model
      */
     void fillPropertiesInformation(String modelName, ObjectNode modelNode) {
-        EipModel model = camelCatalog.eipModel(modelName);
+        EipModel model = getEipModel(modelName);
         if (model == null) {
             return;
         }
@@ -145,7 +150,7 @@ public class CamelCatalogSchemaEnhancer {
      * @param modelNode the JSON schema node of the model
      */
     void fillPropertiesInformation(BaseModel<? extends BaseOptionModel> model, ObjectNode modelNode) {
-        List<? extends BaseOptionModel> modelOptions = model.getOptions();
+        ModelOptionsIndex<? extends BaseOptionModel> modelOptions = getOptionsIndex(model);
 
         modelNode.withObject("properties").fields().forEachRemaining(entry -> {
             String propertyName = entry.getKey();
@@ -154,16 +159,38 @@ public class CamelCatalogSchemaEnhancer {
                 return;
             }
 
-            Optional<? extends BaseOptionModel> modelOption =
-                    modelOptions.stream().filter(option -> option.getName().equals(propertyName)).findFirst();
-            if (modelOption.isEmpty()) {
+            BaseOptionModel modelOption = modelOptions.getOption(propertyName);
+            if (modelOption == null) {
                 return;
             }
 
-            fillPropertyInformation(modelOption.get(), propertyNode);
+            fillPropertyInformation(modelOption, propertyNode);
         });
     }
 
+    /**
+     * Get the index of the options of the given model, built the first time this enhancer sees the model
+     *
+     * @param model the Camel model
+     * @return the index of the model options
+     */
+    @SuppressWarnings("unchecked")
+    <O extends BaseOptionModel> ModelOptionsIndex<O> getOptionsIndex(BaseModel<O> model) {
+        return (ModelOptionsIndex<O>) optionsIndexesByModel.computeIfAbsent(model,
+                key -> new ModelOptionsIndex<>(model.getOptions()));
+    }
+
+    /**
+     * Get the EIP model with the given name, the same instance is returned for every lookup so its options index
+     * is shared between the sorting and the enhancement of its schema
+     *
+     * @param modelName the name of the Camel model
+     * @return the EIP model or null if the catalog doesn't have it
+     */
+    private EipModel getEipModel(String modelName) {
+        return eipModelsByName.computeIfAbsent(modelName, camelCatalog::eipModel);
+    }
+
     /**
      * Fill the group/label/format/deprecated/default information of the model in the property
      *
@@ -5,14 +5,31 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
 public class CamelYAMLSchemaReader {
+    private static final String DEFINITIONS_REF_PREFIX = "#/items/definitions/";
 
     private final SchemaPropertyFilter schemaPropertyFilter = new SchemaPropertyFilter();
     ObjectMapper jsonMapper = new ObjectMapper();
     ObjectNode camelYamlSchemaNode;
+    /* $ref to definition node, so resolving a $ref doesn't need to walk nor copy the whole schema */
+    private final Map<String, ObjectNode> definitionsByRef = new HashMap<>();
+    /* $ref to its definition, already processed, so every definition is only walked once */
+    private final Map<String, InlinedDefinition> inlinedDefinitionsByRef = new HashMap<>();
 
     public CamelYAMLSchemaReader(ObjectNode camelYamlSchemaNode) throws JsonProcessingException {
         this.camelYamlSchemaNode = camelYamlSchemaNode;
+
+        camelYamlSchemaNode.path("items").path("definitions").fields().forEachRemaining(entry -> {
+            if (entry.getValue().isObject()) {
+                definitionsByRef.put(DEFINITIONS_REF_PREFIX + entry.getKey(), (ObjectNode) entry.getValue());
+            }
+        });
     }
 
     /**
@@ -103,32 +120,30 @@ public class CamelYAMLSchemaReader {
 
     /**
      * Resolve the initial $ref
-     * Given a node, resolve the initial $ref and return the resolved node
+     * Given a node, resolve the initial $ref and return a copy of the resolved node,
+     * so it can be modified without altering the Camel YAML DSL schema
      *
      * @param node the node to resolve the initial $ref
      * @return the resolved node
      */
     ObjectNode getResolvedNode(ObjectNode node) {
         if (node.has("$ref")) {
-            String ref = node.get("$ref").asText();
-            String[] refPath = ref.split("/");
-
-            var definition = camelYamlSchemaNode.deepCopy();
-            ObjectNode currentNode = definition;
-            for (String path : refPath) {
-                if (path.equals("#")) {
-                    currentNode = definition;
-                } else if (!path.isEmpty()) {
-                    currentNode = (ObjectNode) currentNode.get(path);
-                }
-            }
-
-            return currentNode;
+            return resolveRef(node.get("$ref").asText());
         }
 
         return node;
     }
 
+    private ObjectNode resolveRef(String ref) {
+        var referencedNode = definitionsByRef.get(ref);
+        if (referencedNode == null) {
+            var pointedNode = camelYamlSchemaNode.at(ref.startsWith("#") ? ref.substring(1) : ref);
+            referencedNode = pointedNode.isObject() ? (ObjectNode) pointedNode : null;
+        }
+
+        return referencedNode == null ? null : referencedNode.deepCopy();
+    }
+
     /**
      * Inline all the definitions
      * Given a node, inline the required definitions from the Camel YAML DSL schema if needed.
@@ -150,10 +165,20 @@ public class CamelYAMLSchemaReader {
      * @param node the node to inline the required definitions from the Camel YAML DSL schema
      */
     void inlineDefinitions(ObjectNode node, ObjectNode definitions) {
+        visitRefs(node, refParent -> addRefDefinition(refParent, definitions));
+    }
+
+    /**
+     * Visit every node holding a $ref that needs to be inlined, in the order they appear
+     *
+     * @param node       the node to look for $refs
+     * @param refVisitor receives every node holding a $ref
+     */
+    private void visitRefs(ObjectNode node, Consumer<ObjectNode> refVisitor) {
         if (node.has("type") && "array".equals(node.get("type").asText()) && node.has("items")) {
             var items = (ObjectNode) node.get("items");
             if (items.has("$ref")) {
-                addRefDefinition(items, definitions);
+                refVisitor.accept(items);
             }
         }
 
@@ -162,16 +187,16 @@ public class CamelYAMLSchemaReader {
             properties.fields().forEachRemaining(entry -> {
                 var property = (ObjectNode) entry.getValue();
                 if (property.has("$ref")) {
-                    addRefDefinition(property, definitions);
+                    refVisitor.accept(property);
                 } else if (property.has("items") && property.get("items").has("$ref") && !entry.getKey().equals("steps")) {
                     var refParent = (ObjectNode) property.get("items");
-                    addRefDefinition(refParent, definitions);
+                    refVisitor.accept(refParent);
                 }
             });
         }
 
-        inlineArrayFields(node, "anyOf", definitions);
-        inlineArrayFields(node, "oneOf", definitions);
+        visitArrayFieldRefs(node, "anyOf", refVisitor);
+        visitArrayFieldRefs(node, "oneOf", refVisitor);
         removeSimpleStringSchemaFromOneOf(node);
     }
 
@@ -209,6 +234,10 @@ public class CamelYAMLSchemaReader {
      * @param definitions the definitions node to add the inlined definitions
      */
     void inlineArrayFields(ObjectNode node, String arrayName, ObjectNode definitions) {
+        visitArrayFieldRefs(node, arrayName, refParent -> addRefDefinition(refParent, definitions));
+    }
+
+    private void visitArrayFieldRefs(ObjectNode node, String arrayName, Consumer<ObjectNode> refVisitor) {
         if (!node.has(arrayName)) return;
 
         var array = (ArrayNode) node.get(arrayName);
@@ -216,10 +245,10 @@ public class CamelYAMLSchemaReader {
             if (element.isObject()) {
                 var elementNode = (ObjectNode) element;
                 if (elementNode.has("$ref")) {
-                    addRefDefinition(elementNode, definitions);
+                    refVisitor.accept(elementNode);
                 } else {
                     // Recursively process nested objects in the array element
-                    inlineDefinitions(elementNode, definitions);
+                    visitRefs(elementNode, refVisitor);
                 }
             }
         });
@@ -238,16 +267,54 @@ public class CamelYAMLSchemaReader {
         String refKey = refParent.get("$ref").asText();
 
         /* newRefKey: org.apache.camel.model.ToDefinition */
-        String newRefKey = refKey.replace("#/items/definitions/", "");
+        String newRefKey = refKey.replace(DEFINITIONS_REF_PREFIX, "");
 
         if (!definitions.has(newRefKey)) {
-            var resolvedNode = getResolvedNode(refParent);
-            definitions.set(newRefKey, resolvedNode);
-            inlineDefinitions(resolvedNode, definitions);
+            addDefinitionClosure(refKey, definitions);
         }
 
-        /* Relocating the $ref from #/items/definitions to #/definitions */
-        String newRefLocation = refKey.replace("#/items/definitions/", "#/definitions/");
+        relocateRef(refParent);
+    }
+
+    /**
+     * Add a definition and, transitively, the definitions it references, following the same order as
+     * a depth-first walk, using the already processed definitions so each one is only walked once per reader.
+     * Definitions already present in the definitions node are skipped, which also breaks the reference cycles.
+     */
+    private void addDefinitionClosure(String refKey, ObjectNode definitions) {
+        var inlinedDefinition = inlinedDefinitionsByRef.computeIfAbsent(refKey, this::processDefinition);
+        definitions.set(refKey.replace(DEFINITIONS_REF_PREFIX, ""),
+                inlinedDefinition.node() == null ? null : inlinedDefinition.node().deepCopy());
+
+        for (var childRefKey : inlinedDefinition.refKeys()) {
+            if (!definitions.has(childRefKey.replace(DEFINITIONS_REF_PREFIX, ""))) {
+                addDefinitionClosure(childRefKey, definitions);
+            }
+        }
+    }
+
+    /**
+     * Resolve a definition, relocate its $refs and record them, so it can be inlined without walking it again
+     */
+    private InlinedDefinition processDefinition(String refKey) {
+        var node = resolveRef(refKey);
+        var refKeys = new ArrayList<String>();
+        if (node != null) {
+            visitRefs(node, refParent -> {
+                refKeys.add(refParent.get("$ref").asText());
+                relocateRef(refParent);
+            });
+        }
+
+        return new InlinedDefinition(node, List.copyOf(refKeys));
+    }
+
+    /* Relocating the $ref from #/items/definitions to #/definitions */
+    private void relocateRef(ObjectNode refParent) {
+        String newRefLocation = refParent.get("$ref").asText().replace(DEFINITIONS_REF_PREFIX, "#/definitions/");
         refParent.put("$ref", newRefLocation);
     }
+
+    private record InlinedDefinition(ObjectNode node, List<String> refKeys) {
+    }
 }
@@ -19,41 +19,50 @@ import io.kaoto.camelcatalog.model.CatalogRuntime;
 import io.kaoto.camelcatalog.model.Constants;
 import io.kaoto.camelcatalog.model.MavenCoordinates;
 import org.apache.camel.catalog.CamelCatalog;
-import org.apache.camel.catalog.DefaultCamelCatalog;
 import org.apache.camel.catalog.DefaultRuntimeProvider;
 import org.apache.camel.catalog.quarkus.QuarkusRuntimeProvider;
 import org.apache.camel.springboot.catalog.SpringBootRuntimeProvider;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-public class CamelCatalogVersionLoader {
+public class CamelCatalogVersionLoader implements AutoCloseable {
     private static final Logger LOGGER = Logger.getLogger(CamelCatalogVersionLoader.class.getName());
+    private final CatalogSession catalogSession;
     private final ResourceLoader resourceLoader;
-    private final CamelCatalog camelCatalog = new DefaultCamelCatalog(true);
+    private final CamelCatalog camelCatalog;
     private final Map<String, String> kameletBoundaries = new HashMap<>();
     private final Map<String, String> kamelets = new HashMap<>();
     private final List<String> camelKCRDs = new ArrayList<>();
     private final Map<String, String> localSchemas = new HashMap<>();
     private final Map<String, String> kaotoPatterns = new HashMap<>();
     private final CatalogRuntime runtime;
+    private final KubernetesSchemaCache kubernetesSchemaCache;
     private String camelYamlDSLSchema;
     private String kubernetesSchema;
 
     public CamelCatalogVersionLoader(CatalogRuntime runtime, boolean verbose) {
-        KaotoMavenVersionManager kaotoVersionManager = new KaotoMavenVersionManager();
-        kaotoVersionManager.setLog(verbose);
+        this(runtime, verbose, KubernetesSchemaCache.getDefault());
+    }
 
-        this.resourceLoader = new ResourceLoader(kaotoVersionManager, verbose);
+    public CamelCatalogVersionLoader(CatalogRuntime runtime, boolean verbose,
+            KubernetesSchemaCache kubernetesSchemaCache) {
+        this.catalogSession = new CatalogSession(verbose);
+        this.camelCatalog = catalogSession.getCamelCatalog();
+        this.resourceLoader = new ResourceLoader(catalogSession.getVersionManager(), verbose);
         this.runtime = runtime;
-        camelCatalog.setVersionManager(kaotoVersionManager);
+        this.kubernetesSchemaCache = kubernetesSchemaCache;
+    }
+
+    /**
+     * Release the classloader, jar files and catalog caches of this version, the loaded content stays available
+     */
+    @Override
+    public void close() throws IOException {
+        catalogSession.close();
     }
 
     public CatalogRuntime getRuntime() {
@@ -96,6 +105,51 @@ public class CamelCatalogVersionLoader {
         return resourceLoader;
     }
 
+    /**
+     * Resolve the Camel catalog, Kamelets, Camel K CRDs and Camel YAML DSL artifacts of a catalog version at once,
+     * so their dependency graphs are collected and downloaded in a single request. The {@code load*} methods then
+     * find them already resolved, otherwise they still resolve them one by one.
+     *
+     * @return whether every artifact was resolved
+     */
+    public boolean resolveDependencies(String camelCatalogVersion, String kameletsVersion, String camelKCRDsVersion) {
+        if (camelCatalogVersion != null) {
+            resourceLoader.configureRepositories(camelCatalogVersion);
+        }
+
+        List<String> gavs = getDependencies(camelCatalogVersion, kameletsVersion, camelKCRDsVersion).stream()
+                .map(mavenCoordinates -> String.format("%s:%s:%s", mavenCoordinates.getGroupId(),
+                        mavenCoordinates.getArtifactId(), mavenCoordinates.getVersion()))
+                .toList();
+
+        return resourceLoader.getKaotoVersionManager().resolveAll(gavs);
+    }
+
+    /**
+     * Get the artifacts loaded for a catalog version, in the order the {@code load*} methods load them, skipping
+     * the ones without version
+     */
+    List<MavenCoordinates> getDependencies(String camelCatalogVersion, String kameletsVersion,
+                                           String camelKCRDsVersion) {
+        List<MavenCoordinates> dependencies = new ArrayList<>();
+        if (camelCatalogVersion != null) {
+            dependencies.add(getCatalogMavenCoordinates(runtime, camelCatalogVersion));
+        }
+        if (kameletsVersion != null) {
+            dependencies.add(new MavenCoordinates(Constants.APACHE_CAMEL_KAMELETS_ORG, Constants.KAMELETS_PACKAGE,
+                    kameletsVersion));
+        }
+        if (camelKCRDsVersion != null) {
+            dependencies.add(new MavenCoordinates(Constants.APACHE_CAMEL_K_ORG, Constants.CAMEL_K_CRDS_PACKAGE,
+                    camelKCRDsVersion));
+        }
+        if (camelCatalogVersion != null) {
+            dependencies.add(getYamlDslMavenCoordinates(runtime, camelCatalogVersion));
+        }
+
+        return dependencies;
+    }
+
     public boolean loadCamelCatalog(String version) {
         if (version != null) {
             resourceLoader.configureRepositories(version);
@@ -127,13 +181,13 @@ public class CamelCatalogVersionLoader {
         loadDependencyInClasspath(mavenCoordinates);
 
         ClassLoader classLoader = resourceLoader.getKaotoVersionManager().getClassLoader();
-        URL resourceURL = classLoader.getResource(Constants.CAMEL_YAML_DSL_ARTIFACT);
-        if (resourceURL == null) {
-            LOGGER.log(Level.SEVERE, "No " + Constants.CAMEL_YAML_DSL_ARTIFACT + " file found in the classpath");
-            return false;
-        }
+        /* Unlike the streams of its resource URLs, the classloader closes its own streams when it's closed */
+        try (InputStream inputStream = classLoader.getResourceAsStream(Constants.CAMEL_YAML_DSL_ARTIFACT)) {
+            if (inputStream == null) {
+                LOGGER.log(Level.SEVERE, "No " + Constants.CAMEL_YAML_DSL_ARTIFACT + " file found in the classpath");
+                return false;
+            }
 
-        try (InputStream inputStream = resourceURL.openStream()) {
             try (Scanner scanner = new Scanner(inputStream)) {
                 scanner.useDelimiter("\\A");
                 camelYamlDSLSchema = scanner.hasNext() ? scanner.next() : "";
@@ -165,19 +219,9 @@ public class CamelCatalogVersionLoader {
     }
 
     public boolean loadKubernetesSchema() {
-        String url =
-                "https://raw.githubusercontent.com/kubernetes/kubernetes/master/api/openapi-spec/v3/api__v1_openapi.json";
-
-        try (InputStream in = new URI(url).toURL().openStream(); Scanner scanner = new Scanner(in,
-                StandardCharsets.UTF_8)) {
-            scanner.useDelimiter("\\A");
-            kubernetesSchema = scanner.hasNext() ? scanner.next() : "";
-        } catch (IOException | URISyntaxException e) {
-            LOGGER.log(Level.SEVERE, e.toString(), e);
-            return false;
-        }
+        kubernetesSchema = kubernetesSchemaCache.getSchema();
 
-        return true;
+        return kubernetesSchema != null;
     }
 
     public boolean loadCamelKCRDs(String version) {
@@ -188,12 +232,11 @@ public class CamelCatalogVersionLoader {
         ClassLoader classLoader = resourceLoader.getKaotoVersionManager().getClassLoader();
 
         for (String crd : Constants.CAMEL_K_CRDS_ARTIFACTS) {
-            URL resourceURL = classLoader.getResource(crd);
-            if (resourceURL == null) {
-                return false;
-            }
+            try (InputStream inputStream = classLoader.getResourceAsStream(crd)) {
+                if (inputStream == null) {
+                    return false;
+                }
 
-            try (InputStream inputStream = resourceURL.openStream()) {
                 try (Scanner scanner = new Scanner(inputStream)) {
                     scanner.useDelimiter("\\A");
                     camelKCRDs.add(scanner.hasNext() ? scanner.next() : "");
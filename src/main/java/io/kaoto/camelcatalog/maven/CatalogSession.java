@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.maven;
+
+import org.apache.camel.catalog.DefaultCamelCatalog;
+
+import java.io.IOException;
+
+/**
+ * The Camel catalog of a single catalog version, along with the classloader holding the jars resolved for it.
+ * <p>
+ * Every session has its own classloader, so the versions generated concurrently never see each other's jars.
+ * Closing the session once its version is generated closes the classloader and the jar files opened to read
+ * the catalog resources, and clears the catalog caches, so the memory doesn't grow with every version.
+ */
+public class CatalogSession implements AutoCloseable {
+    private final KaotoMavenVersionManager versionManager = new KaotoMavenVersionManager();
+    private final DefaultCamelCatalog camelCatalog = new DefaultCamelCatalog(true);
+    private boolean closed;
+
+    public CatalogSession(boolean verbose) {
+        versionManager.setLog(verbose);
+        camelCatalog.setVersionManager(versionManager);
+    }
+
+    public KaotoMavenVersionManager getVersionManager() {
+        return versionManager;
+    }
+
+    public DefaultCamelCatalog getCamelCatalog() {
+        return camelCatalog;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        camelCatalog.setCaching(false);
+        versionManager.close();
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.maven;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarFile;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Index of the resources of the jars added to the {@link KaotoOpenURLClassLoader}, so a resource of a given
+ * version is found with a single lookup instead of listing it from every jar of the classloader.
+ * <p>
+ * The jars are kept in the order they were added, so the same jar as the classloader is picked when several of
+ * them provide the resource. They are opened on their first lookup, and kept open until the index is closed.
+ */
+class ClasspathResourceIndex implements Closeable {
+    private static final Logger LOGGER = Logger.getLogger(ClasspathResourceIndex.class.getName());
+
+    private final Map<String, List<IndexedJar>> jarsByResource = new ConcurrentHashMap<>();
+    private final Map<File, JarFile> openJarFiles = new ConcurrentHashMap<>();
+
+    /**
+     * Index every file entry of a jar, a file which isn't a jar is ignored
+     */
+    void addJar(File file) {
+        if (!file.isFile()) {
+            return;
+        }
+
+        try (var jarFile = new JarFile(file)) {
+            var indexedJar = new IndexedJar(file, "jar:" + file.toURI().toURL() + "!/");
+            jarFile.stream()
+                    .filter(entry -> !entry.isDirectory())
+                    .forEach(entry -> jarsByResource.merge(entry.getName(), List.of(indexedJar),
+                            (jars, newJars) -> Stream.concat(jars.stream(), newJars.stream()).toList()));
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Cannot index the resources of " + file, e);
+        }
+    }
+
+    /**
+     * Open a resource provided by a jar of the given version, the resource URL must contain the version as the
+     * URLs returned by {@link ClassLoader#getResources(String)} did
+     *
+     * @return the resource content or null if no jar of that version provides it
+     */
+    InputStream open(String name, String version) throws IOException {
+        var jars = jarsByResource.get(name);
+        if (jars == null) {
+            return null;
+        }
+
+        for (var jar : jars) {
+            if ((jar.url() + name).contains(version)) {
+                var jarFile = getJarFile(jar.file());
+                return jarFile.getInputStream(jarFile.getEntry(name));
+            }
+        }
+
+        return null;
+    }
+
+    private JarFile getJarFile(File file) throws IOException {
+        try {
+            return openJarFiles.computeIfAbsent(file, jar -> {
+                try {
+                    return new JarFile(jar);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Close every opened jar, the streams opened from them can't be read anymore
+     */
+    @Override
+    public void close() throws IOException {
+        IOException exception = null;
+        for (var jarFile : openJarFiles.values()) {
+            try {
+                jarFile.close();
+            } catch (IOException e) {
+                exception = e;
+            }
+        }
+        openJarFiles.clear();
+        jarsByResource.clear();
+
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    private record IndexedJar(File file, String url) {
+    }
+}
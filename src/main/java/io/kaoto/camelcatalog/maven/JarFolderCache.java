@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.maven;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Reads the files of a jar folder, e.g. the Kamelets of the {@code camel-kamelets} jar, and keeps their content
+ * for the whole run, so the catalog versions sharing the same jar only read it once.
+ * <p>
+ * The jar is opened as a zip file system, which indexes its central directory once, so only the entries of the
+ * requested folder are visited, and they are read concurrently as raw UTF-8 bytes. A jar is identified by its
+ * path, size and last modification, so a jar replaced during the run is read again.
+ */
+class JarFolderCache {
+    private static final Logger LOGGER = Logger.getLogger(JarFolderCache.class.getName());
+    private static JarFolderCache defaultCache;
+
+    private final Map<FolderKey, JarFolder> folders = new ConcurrentHashMap<>();
+
+    /**
+     * Get the cache shared by every resource loader of the run
+     */
+    static synchronized JarFolderCache getDefault() {
+        if (defaultCache == null) {
+            defaultCache = new JarFolderCache();
+        }
+        return defaultCache;
+    }
+
+    /**
+     * Get the files of a jar folder, and of its sub-folders, ending with the given suffix
+     *
+     * @param jar        the jar file
+     * @param folderName the folder, relative to the jar root
+     * @param fileSuffix the suffix of the files to read, it's removed from their names
+     * @param verbose    whether to log every read file
+     * @return the files content keyed by their path relative to the folder, without suffix
+     */
+    JarFolder getFolder(Path jar, String folderName, String fileSuffix, boolean verbose) throws IOException {
+        var key = new FolderKey(jar.toAbsolutePath().normalize(), Files.size(jar),
+                Files.getLastModifiedTime(jar).toMillis(), folderName, fileSuffix);
+        try {
+            return folders.computeIfAbsent(key, folderKey -> {
+                try {
+                    return readFolder(folderKey, verbose);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static JarFolder readFolder(FolderKey folderKey, boolean verbose) throws IOException {
+        try (var zipFileSystem = FileSystems.newFileSystem(folderKey.jar())) {
+            var folder = zipFileSystem.getPath(folderKey.folderName());
+            if (!Files.isDirectory(folder)) {
+                return new JarFolder(Map.of(), 0);
+            }
+
+            List<Path> files;
+            try (var pathWalker = Files.walk(folder)) {
+                files = pathWalker.filter(Files::isRegularFile)
+                        .filter(path -> path.toString().endsWith(folderKey.fileSuffix()))
+                        .toList();
+            }
+
+            Map<String, byte[]> contents = files.parallelStream().collect(Collectors.toMap(
+                    path -> path.toString().replace(folderKey.folderName() + "/", "")
+                            .replace(folderKey.fileSuffix(), ""),
+                    path -> {
+                        if (verbose) {
+                            LOGGER.log(Level.INFO, () -> "Parsing: " + path);
+                        }
+                        try {
+                            return Files.readAllBytes(path);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }));
+
+            var bytes = contents.values().stream().mapToLong(content -> content.length).sum();
+            return new JarFolder(contents.entrySet().stream().collect(Collectors.toUnmodifiableMap(Map.Entry::getKey,
+                    entry -> new String(entry.getValue(), StandardCharsets.UTF_8))), bytes);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * The files of a jar folder
+     *
+     * @param files the files content keyed by their path relative to the folder, without suffix
+     * @param bytes the total size of the files
+     */
+    record JarFolder(Map<String, String> files, long bytes) {
+    }
+
+    private record FolderKey(Path jar, long size, long lastModified, String folderName, String fileSuffix) {
+    }
+}
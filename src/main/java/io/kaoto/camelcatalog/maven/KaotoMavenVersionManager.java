@@ -5,9 +5,9 @@ import org.apache.camel.tooling.maven.MavenArtifact;
 import org.apache.camel.tooling.maven.MavenDownloader;
 import org.apache.camel.tooling.maven.MavenDownloaderImpl;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.URL;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -19,11 +19,13 @@ import java.util.logging.Logger;
  * dependencies, and we need to load the underlying Camel YAML DSL from Quarkus and Spring
  * Boot runtime providers.
  */
-public class KaotoMavenVersionManager extends MavenVersionManager {
+public class KaotoMavenVersionManager extends MavenVersionManager implements Closeable {
     private static final Logger LOGGER = Logger.getLogger(KaotoMavenVersionManager.class.getName());
 
     protected final MavenDownloader downloader;
     protected final Map<String, String> repositories = new LinkedHashMap<>();
+    private final Set<String> resolvedGavs = new HashSet<>();
+    private final ClasspathResourceIndex resourceIndex = new ClasspathResourceIndex();
     private String version;
     private String runtimeProviderVersion;
     private boolean log;
@@ -93,18 +95,50 @@ public class KaotoMavenVersionManager extends MavenVersionManager {
         }
     }
 
+    /**
+     * Resolve several artifacts at once, with their transitive dependencies, so their dependency graphs are
+     * collected and downloaded in a single request instead of one request per artifact. The artifacts already
+     * resolved are skipped, and resolving them again later is a no-op.
+     *
+     * @param gavs the artifacts coordinates, e.g. {@code org.apache.camel:camel-catalog:4.12.0}
+     * @return whether every artifact was resolved
+     */
+    public boolean resolveAll(List<String> gavs) {
+        return resolveAll(downloader, gavs);
+    }
+
+    boolean resolveAll(MavenDownloader mavenDownloader, List<String> gavs) {
+        List<String> pendingGavs = gavs.stream().distinct().filter(gav -> !resolvedGavs.contains(gav)).toList();
+        if (pendingGavs.isEmpty()) {
+            return true;
+        }
+
+        boolean useSnapshots = pendingGavs.stream().anyMatch(gav -> gav.endsWith("SNAPSHOT"));
+        return resolve(mavenDownloader, pendingGavs, useSnapshots, true);
+    }
+
     /**
      * Resolves Maven artifact using passed coordinates and use downloaded artifact
      * as one of the URLs in the
      * helperClassLoader, so further Catalog access may load resources from it.
      */
     public void resolve(MavenDownloader mavenDownloader, String gav, boolean useSnapshots, boolean transitive) {
+        if (resolvedGavs.contains(gav)) {
+            return;
+        }
+
+        resolve(mavenDownloader, Collections.singletonList(gav), useSnapshots, transitive);
+    }
+
+    private boolean resolve(MavenDownloader mavenDownloader, List<String> gavs, boolean useSnapshots,
+                            boolean transitive) {
+        var event = new MavenResolveEvent();
+        event.begin();
         try {
             Set<String> extraRepositories = new LinkedHashSet<>(repositories.values());
 
             List<MavenArtifact> artifacts =
-                    mavenDownloader.resolveArtifacts(Collections.singletonList(gav), extraRepositories, transitive,
-                            useSnapshots);
+                    mavenDownloader.resolveArtifacts(gavs, extraRepositories, transitive, useSnapshots);
 
             if (getLog()) {
                 LOGGER.log(Level.INFO, () -> "Artifacts: " + artifacts);
@@ -112,14 +146,31 @@ public class KaotoMavenVersionManager extends MavenVersionManager {
 
             for (MavenArtifact ma : artifacts) {
                 ((KaotoOpenURLClassLoader) getClassLoader()).addURL(ma.getFile().toURI().toURL());
+                resourceIndex.addJar(ma.getFile());
+            }
+            /* Only a transitive resolution provides everything a later request for the same artifact needs */
+            if (transitive) {
+                resolvedGavs.addAll(gavs);
+            }
+
+            event.artifactCount = artifacts.size();
+            if (event.isEnabled()) {
+                event.bytes = artifacts.stream().mapToLong(ma -> ma.getFile().length()).sum();
             }
+            event.success = true;
+            return true;
         } catch (Throwable e) {
             if (getLog()) {
-                LOGGER.log(Level.WARNING, String.format("Error resolving artifact %s due to %s", gav, e.getMessage()),
-                        e);
+                LOGGER.log(Level.WARNING,
+                        String.format("Error resolving artifacts %s due to %s", gavs, e.getMessage()), e);
             }
+            return false;
+        } finally {
+            event.gav = String.join(",", gavs);
+            event.transitive = transitive;
+            event.snapshots = useSnapshots;
+            event.commit();
         }
-
     }
 
     @Override
@@ -139,26 +190,34 @@ public class KaotoMavenVersionManager extends MavenVersionManager {
         return is;
     }
 
+    /**
+     * Open the resource provided by a resolved jar of the given version, looked up in the resource index rather
+     * than listing the resource from every jar of the classloader
+     */
     private InputStream doGetResourceAsStream(String name, String version) {
         if (version != null) {
             try {
-                Enumeration<URL> urls = getClassLoader().getResources(name);
-                while (urls.hasMoreElements()) {
-                    URL url = urls.nextElement();
-                    if (url.getPath().contains(version)) {
-                        return url.openStream();
-                    }
-                }
-
+                return resourceIndex.open(name, version);
             } catch (IOException e) {
                 if (getLog()) {
                     LOGGER.log(Level.WARNING,
                             String.format("Cannot open resource %s and version %s due %s", name, version,
                                     e.getMessage()), e);
-
                 }
             }
         }
         return null;
     }
+
+    /**
+     * Close the jars opened to read the resources, the classloader with the resolved jars, and the downloader
+     */
+    @Override
+    public void close() throws IOException {
+        downloader.close();
+        resourceIndex.close();
+        if (getClassLoader() instanceof Closeable classLoader) {
+            classLoader.close();
+        }
+    }
 }
@@ -0,0 +1,255 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.maven;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.kaoto.camelcatalog.model.Constants;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Provides the Kubernetes OpenAPI specification used to build the ObjectMeta schema.
+ * <p>
+ * The downloaded specification is pruned down to the {@link Constants#KUBERNETES_DEFINITIONS} and the
+ * definitions they reference, and stored in a content-addressed file inside the cache directory, so it's
+ * only downloaded once per TTL and parsed once per run.
+ * <p>
+ * When the download isn't possible, e.g. in air-gapped environments, the last cached copy is used, or the
+ * snapshot bundled with the generator as a last resort. In pinned mode, the specification is never
+ * downloaded.
+ */
+public class KubernetesSchemaCache {
+    private static final Logger LOGGER = Logger.getLogger(KubernetesSchemaCache.class.getName());
+    static final String KUBERNETES_SCHEMA_URL =
+            "https://raw.githubusercontent.com/kubernetes/kubernetes/master/api/openapi-spec/v3/api__v1_openapi.json";
+    static final String BUNDLED_SNAPSHOT = "kubernetes/" + Constants.K8S_V1_OPENAPI + ".json";
+    static final String POINTER_FILE_NAME = Constants.K8S_V1_OPENAPI + ".ref";
+    public static final Path DEFAULT_CACHE_DIRECTORY =
+            Paths.get(System.getProperty("user.home"), ".cache", "kaoto", "catalog-generator");
+    public static final Duration DEFAULT_TTL = Duration.ofHours(24);
+
+    private static final ObjectMapper jsonMapper = new ObjectMapper();
+    private static KubernetesSchemaCache defaultCache;
+
+    private final Path cacheDirectory;
+    private final Duration ttl;
+    private final boolean pinned;
+    private String schema;
+
+    public KubernetesSchemaCache(Path cacheDirectory, Duration ttl, boolean pinned) {
+        this.cacheDirectory = cacheDirectory;
+        this.ttl = ttl;
+        this.pinned = pinned;
+    }
+
+    /**
+     * Get the cache shared by the loaders that weren't configured with a specific one
+     */
+    public static synchronized KubernetesSchemaCache getDefault() {
+        if (defaultCache == null) {
+            defaultCache = new KubernetesSchemaCache(DEFAULT_CACHE_DIRECTORY, DEFAULT_TTL, false);
+        }
+        return defaultCache;
+    }
+
+    public Path getCacheDirectory() {
+        return cacheDirectory;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public boolean isPinned() {
+        return pinned;
+    }
+
+    /**
+     * Get the pruned Kubernetes OpenAPI specification, loading it only the first time.
+     *
+     * @return the pruned Kubernetes OpenAPI specification or null if it couldn't be loaded at all
+     */
+    public synchronized String getSchema() {
+        if (schema == null) {
+            schema = loadSchema();
+        }
+        return schema;
+    }
+
+    private String loadSchema() {
+        Optional<Path> cachedFile = getCachedFile();
+
+        if (pinned) {
+            return cachedFile.map(this::readCachedFile).orElseGet(this::readBundledSnapshot);
+        }
+
+        if (cachedFile.isPresent() && !isExpired()) {
+            String cachedSchema = readCachedFile(cachedFile.get());
+            if (cachedSchema != null) {
+                return cachedSchema;
+            }
+        }
+
+        try {
+            String prunedSchema = prune(download());
+            store(prunedSchema);
+            return prunedSchema;
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Cannot download the Kubernetes OpenAPI specification, using the "
+                    + (cachedFile.isPresent() ? "cached" : "bundled") + " copy instead: " + e);
+        }
+
+        return cachedFile.map(this::readCachedFile).orElseGet(this::readBundledSnapshot);
+    }
+
+    /**
+     * Download the full Kubernetes OpenAPI specification
+     */
+    String download() throws IOException {
+        try (InputStream in = URI.create(KUBERNETES_SCHEMA_URL).toURL().openStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Remove all the definitions that are not reachable from {@link Constants#KUBERNETES_DEFINITIONS}
+     *
+     * @param openApiSpec the full Kubernetes OpenAPI specification
+     * @return the pruned Kubernetes OpenAPI specification
+     */
+    static String prune(String openApiSpec) throws IOException {
+        var spec = (ObjectNode) jsonMapper.readTree(openApiSpec);
+        var schemas = spec.withObject("/components/schemas");
+
+        var prunedSpec = jsonMapper.createObjectNode();
+        if (spec.has("openapi")) prunedSpec.set("openapi", spec.get("openapi"));
+        if (spec.has("info")) prunedSpec.set("info", spec.get("info"));
+        var prunedSchemas = prunedSpec.withObject("/components/schemas");
+
+        var pending = new ArrayDeque<>(Constants.KUBERNETES_DEFINITIONS);
+        while (!pending.isEmpty()) {
+            var name = pending.pop();
+            if (prunedSchemas.has(name) || !schemas.has(name)) {
+                continue;
+            }
+
+            var definition = schemas.get(name);
+            prunedSchemas.set(name, definition);
+            definition.findValuesAsText("$ref")
+                    .forEach(ref -> pending.add(ref.substring(ref.lastIndexOf('/') + 1)));
+        }
+
+        return jsonMapper.writeValueAsString(prunedSpec);
+    }
+
+    private Optional<Path> getCachedFile() {
+        Path pointerFile = cacheDirectory.resolve(POINTER_FILE_NAME);
+        try {
+            if (Files.isRegularFile(pointerFile)) {
+                Path cachedFile = cacheDirectory.resolve(Files.readString(pointerFile).trim());
+                if (Files.isRegularFile(cachedFile)) {
+                    return Optional.of(cachedFile);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Cannot read the Kubernetes OpenAPI specification cache: " + e);
+        }
+
+        return Optional.empty();
+    }
+
+    private boolean isExpired() {
+        try {
+            Instant fetchedAt = Files.getLastModifiedTime(cacheDirectory.resolve(POINTER_FILE_NAME)).toInstant();
+            return fetchedAt.plus(ttl).isBefore(Instant.now());
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    private String readCachedFile(Path cachedFile) {
+        try {
+            return Files.readString(cachedFile, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Cannot read the cached Kubernetes OpenAPI specification: " + e);
+            return readBundledSnapshot();
+        }
+    }
+
+    private String readBundledSnapshot() {
+        try (InputStream in = KubernetesSchemaCache.class.getClassLoader().getResourceAsStream(BUNDLED_SNAPSHOT)) {
+            if (in == null) {
+                LOGGER.severe("No bundled Kubernetes OpenAPI specification found: " + BUNDLED_SNAPSHOT);
+                return null;
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, e.toString(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Store the pruned specification under its content hash and point the pointer file to it, refreshing the TTL
+     */
+    private void store(String prunedSchema) {
+        try {
+            Files.createDirectories(cacheDirectory);
+            byte[] content = prunedSchema.getBytes(StandardCharsets.UTF_8);
+            String fileName = String.format("%s-%s.json", Constants.K8S_V1_OPENAPI, getHash(content));
+
+            Path cachedFile = cacheDirectory.resolve(fileName);
+            if (!Files.exists(cachedFile)) {
+                writeAtomically(cachedFile, content);
+            }
+            writeAtomically(cacheDirectory.resolve(POINTER_FILE_NAME), fileName.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException | NoSuchAlgorithmException e) {
+            LOGGER.log(Level.WARNING, "Cannot cache the Kubernetes OpenAPI specification: " + e);
+        }
+    }
+
+    private void writeAtomically(Path target, byte[] content) throws IOException {
+        Path tempFile = Files.createTempFile(cacheDirectory, target.getFileName().toString(), ".tmp");
+        try {
+            Files.write(tempFile, content);
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static String getHash(byte[] content) throws NoSuchAlgorithmException {
+        var digest = MessageDigest.getInstance("MD5");
+        return new BigInteger(1, digest.digest(content)).toString(16);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.maven;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning the resolution of a Maven artifact, and its dependencies when transitive
+ */
+@Name("io.kaoto.camelcatalog.MavenResolve")
+@Label("Maven Resolve")
+@Category({"Kaoto", "Maven"})
+@StackTrace(false)
+class MavenResolveEvent extends jdk.jfr.Event {
+    @Label("GAV")
+    String gav;
+
+    @Label("Transitive")
+    boolean transitive;
+
+    @Label("Snapshots")
+    boolean snapshots;
+
+    @Label("Artifact Count")
+    int artifactCount;
+
+    @Label("Artifacts Size")
+    @DataAmount
+    long bytes;
+
+    @Label("Success")
+    boolean success;
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.maven;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning the loading of a resource folder from the classpath
+ */
+@Name("io.kaoto.camelcatalog.ResourceLoad")
+@Label("Resource Load")
+@Category({"Kaoto", "Maven"})
+@StackTrace(false)
+class ResourceLoadEvent extends jdk.jfr.Event {
+    @Label("Folder")
+    String folder;
+
+    @Label("File Suffix")
+    String fileSuffix;
+
+    @Label("File Count")
+    int fileCount;
+
+    @Label("Size")
+    @DataAmount
+    long bytes;
+}
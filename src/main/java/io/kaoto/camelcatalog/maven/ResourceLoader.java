@@ -7,13 +7,10 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Enumeration;
 import java.util.Iterator;
 import java.util.Map;
-import java.util.Scanner;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -21,10 +18,16 @@ public class ResourceLoader {
     private static final Logger LOGGER = Logger.getLogger(ResourceLoader.class.getName());
     private final KaotoMavenVersionManager kaotoVersionManager;
     private final boolean verbose;
+    private final JarFolderCache jarFolderCache;
 
     ResourceLoader(KaotoMavenVersionManager kaotoVersionManager, boolean verbose) {
+        this(kaotoVersionManager, verbose, JarFolderCache.getDefault());
+    }
+
+    ResourceLoader(KaotoMavenVersionManager kaotoVersionManager, boolean verbose, JarFolderCache jarFolderCache) {
         this.verbose = verbose;
         this.kaotoVersionManager = kaotoVersionManager;
+        this.jarFolderCache = jarFolderCache;
     }
 
     public KaotoMavenVersionManager getKaotoVersionManager() {
@@ -48,6 +51,8 @@ public class ResourceLoader {
     public void loadResourcesFromFolderAsString(String resourceFolderName, Map<String, String> filesMap,
                                                 String fileSuffix) {
         ClassLoader classLoader = kaotoVersionManager.getClassLoader();
+        var event = new ResourceLoadEvent();
+        event.begin();
 
         try {
             Iterator<URL> it = classLoader.getResources(resourceFolderName).asIterator();
@@ -56,31 +61,17 @@ public class ResourceLoader {
                 URL resourceUrl = it.next();
 
                 if ("jar".equals(resourceUrl.getProtocol())) {
-                    JarURLConnection connection = (JarURLConnection) resourceUrl.openConnection();
-                    JarFile jarFile = connection.getJarFile();
-                    Enumeration<JarEntry> entries = jarFile.entries();
-
-                    while (entries.hasMoreElements()) {
-                        JarEntry entry = entries.nextElement();
-                        if (entry.getName().startsWith(connection.getEntryName()) && !entry.isDirectory() &&
-                                entry.getName().endsWith(fileSuffix)) {
-
-                            if (verbose) {
-                                LOGGER.log(Level.INFO, () -> "Parsing: " + entry.getName());
-                            }
-
-                            try (InputStream inputStream = jarFile.getInputStream(entry)) {
-                                try (Scanner scanner = new Scanner(inputStream)) {
-                                    scanner.useDelimiter("\\A");
-                                    String filenameWithoutExtension =
-                                            entry.getName().replace(resourceFolderName + "/", "")
-                                                    .replace(fileSuffix, "");
-                                    filesMap.put(filenameWithoutExtension, scanner.hasNext() ? scanner.next() : "");
-                                }
-                            } catch (IOException e) {
-                                LOGGER.log(Level.SEVERE, e.toString(), e);
-                            }
-                        }
+                    /* The jar folders are read once per run, as every catalog version loads the same ones */
+                    try {
+                        JarURLConnection connection = (JarURLConnection) resourceUrl.openConnection();
+                        Path jar = Paths.get(connection.getJarFileURL().toURI());
+                        JarFolderCache.JarFolder jarFolder =
+                                jarFolderCache.getFolder(jar, resourceFolderName, fileSuffix, verbose);
+                        filesMap.putAll(jarFolder.files());
+                        event.fileCount += jarFolder.files().size();
+                        event.bytes += jarFolder.bytes();
+                    } catch (IOException | URISyntaxException e) {
+                        LOGGER.log(Level.SEVERE, e.toString(), e);
                     }
                 } else if ("file".equals(resourceUrl.getProtocol())) {
                     try (var pathWalker = Files.walk(Paths.get(resourceUrl.toURI()))) {
@@ -93,7 +84,10 @@ public class ResourceLoader {
                                     try {
                                         String filenameWithoutExtension = path.toFile().getName()
                                                 .substring(0, path.toFile().getName().lastIndexOf('.'));
-                                        filesMap.put(filenameWithoutExtension, new String(Files.readAllBytes(path)));
+                                        byte[] content = Files.readAllBytes(path);
+                                        filesMap.put(filenameWithoutExtension, new String(content, StandardCharsets.UTF_8));
+                                        event.fileCount++;
+                                        event.bytes += content.length;
                                     } catch (IOException e) {
                                         LOGGER.log(Level.SEVERE, e.toString(), e);
                                     }
@@ -105,6 +99,10 @@ public class ResourceLoader {
             }
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, e.toString(), e);
+        } finally {
+            event.folder = resourceFolderName;
+            event.fileSuffix = fileSuffix;
+            event.commit();
         }
     }
 
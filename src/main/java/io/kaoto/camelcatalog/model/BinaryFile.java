@@ -0,0 +1,26 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.model;
+
+/**
+ * A copy of a generated JSON file encoded in a binary format, written next to it, so JVM consumers can parse it
+ * faster than the JSON file
+ *
+ * @param file the binary file, relative to the catalog definition folder like the original file
+ * @param size the size in bytes of the binary file
+ * @param hash the MD5 hash of the binary file content
+ */
+public record BinaryFile(String file, long size, String hash) {}
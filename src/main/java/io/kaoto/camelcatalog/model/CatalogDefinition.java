@@ -19,6 +19,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 public class CatalogDefinition {
     private String name;
@@ -26,6 +27,8 @@ public class CatalogDefinition {
     private CatalogRuntime runtime;
     private Map<String, CatalogDefinitionEntry> catalogs = new HashMap<>();
     private Map<String, CatalogDefinitionEntry> schemas = new HashMap<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private Map<String, CatalogDefinitionEntry> shards = new HashMap<>();
     private String fileName;
 
     public String getName() {
@@ -60,6 +63,13 @@ public class CatalogDefinition {
         return schemas;
     }
 
+    /**
+     * The index of every sharded catalog, keyed like the catalogs, each listing a file per catalog entry
+     */
+    public Map<String, CatalogDefinitionEntry> getShards() {
+        return shards;
+    }
+
     @JsonIgnore
     public String getFileName() {
         return fileName;
@@ -15,4 +15,39 @@
  */
 package io.kaoto.camelcatalog.model;
 
-public record CatalogDefinitionEntry(String name, String description, String version, String file) {}
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+/**
+ * @param compressed the pre-compressed copies of the file, keyed by their content encoding, e.g. {@code gzip}
+ */
+public record CatalogDefinitionEntry(String name, String description, String version, String file,
+        @JsonInclude(JsonInclude.Include.NON_EMPTY) Map<String, CompressedFile> compressed,
+        @JsonInclude(JsonInclude.Include.NON_EMPTY) Map<String, BinaryFile> binary) {
+
+    public CatalogDefinitionEntry(String name, String description, String version, String file) {
+        this(name, description, version, file, null, null);
+    }
+
+    /**
+     * A copy of this entry pointing to the given file, without its compressed and binary copies
+     */
+    public CatalogDefinitionEntry withFile(String file) {
+        return new CatalogDefinitionEntry(name, description, version, file);
+    }
+
+    /**
+     * A copy of this entry with the given compressed copies of its file
+     */
+    public CatalogDefinitionEntry withCompressed(Map<String, CompressedFile> compressed) {
+        return new CatalogDefinitionEntry(name, description, version, file, compressed, binary);
+    }
+
+    /**
+     * A copy of this entry with the given binary copies of its file
+     */
+    public CatalogDefinitionEntry withBinary(Map<String, BinaryFile> binary) {
+        return new CatalogDefinitionEntry(name, description, version, file, compressed, binary);
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.model;
+
+/**
+ * A pre-compressed copy of a generated file, written next to it, so static servers can serve it as is
+ *
+ * @param file the compressed file, relative to the catalog definition folder like the original file
+ * @param size the size in bytes of the compressed file
+ * @param hash the MD5 hash of the compressed file content
+ */
+public record CompressedFile(String file, long size, String hash) {}
@@ -22,6 +22,7 @@ public class Constants {
         public static final String DATAFORMATS = "dataformats";
         public static final String LANGUAGES = "languages";
         public static final String MODELS = "models";
+        public static final String DEFINITIONS = "definitions";
 
         public static final String APACHE_CAMEL_ORG = "org.apache.camel";
         public static final String APACHE_CAMEL_KAMELETS_ORG = APACHE_CAMEL_ORG + ".kamelets";
@@ -88,4 +88,31 @@ public class MainTest {
             assertEquals(EXIT_CODE_FAILURE, exitCode[0]);
         }
     }
+
+    @Test
+    public void testMainFailingGeneration() throws Exception {
+        String[] args = { "-o", "outputDir", "-n", "catalogName", "-k", "kameletsVersion" };
+        int[] exitCode = { 99 };
+        try (
+                MockedConstruction<GenerateCommandOptions> mockedGenerateCommandOptions = mockConstruction(
+                        GenerateCommandOptions.class, (mock, context) -> {
+                            doNothing().when(mock).configure(args);
+                        });
+                MockedConstruction<GenerateCommand> mockedGenerateCommand = mockConstruction(GenerateCommand.class,
+                        (mock, context) -> {
+                            doThrow(new RuntimeException("Catalogs couldn't be generated")).when(mock).run();
+                        });
+                MockedStatic<Main> mockedMain = mockStatic(Main.class);) {
+            mockedMain.when(() -> Main.main(args)).thenCallRealMethod();
+            mockedMain.when(() -> Main.exit(EXIT_CODE_FAILURE)).then(invocation -> {
+                exitCode[0] = EXIT_CODE_FAILURE;
+                return null;
+            });
+
+            Main.main(args);
+
+            verify(mockedGenerateCommand.constructed().get(0)).run();
+            assertEquals(EXIT_CODE_FAILURE, exitCode[0]);
+        }
+    }
 }
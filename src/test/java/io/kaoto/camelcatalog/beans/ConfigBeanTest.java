@@ -18,6 +18,8 @@ package io.kaoto.camelcatalog.beans;
 import io.kaoto.camelcatalog.model.CatalogCliArgument;
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ConfigBeanTest {
@@ -87,4 +89,100 @@ class ConfigBeanTest {
             configBean.setVerbose(true);
             assertTrue(configBean.isVerbose());
         }
-}
\ No newline at end of file
+
+        @Test
+        void testGetJobs() {
+            ConfigBean configBean = new ConfigBean();
+            assertEquals(1, configBean.getJobs());
+        }
+
+        @Test
+        void testSetJobs() {
+            ConfigBean configBean = new ConfigBean();
+            configBean.setJobs(4);
+            assertEquals(4, configBean.getJobs());
+        }
+
+        @Test
+        void testKubernetesSchemaCacheDefaults() {
+            ConfigBean configBean = new ConfigBean();
+            assertNull(configBean.getCacheFolder());
+            assertEquals(24, configBean.getKubernetesSchemaTtlHours());
+            assertFalse(configBean.isKubernetesSchemaPinned());
+        }
+
+        @Test
+        void testSetKubernetesSchemaCacheSettings() {
+            ConfigBean configBean = new ConfigBean();
+            configBean.setCacheFolder("cacheFolder");
+            configBean.setKubernetesSchemaTtlHours(1);
+            configBean.setKubernetesSchemaPinned(true);
+
+            assertEquals(new File("cacheFolder"), configBean.getCacheFolder());
+            assertEquals(1, configBean.getKubernetesSchemaTtlHours());
+            assertTrue(configBean.isKubernetesSchemaPinned());
+        }
+
+        @Test
+        void testSetBuildFolder() {
+            ConfigBean configBean = new ConfigBean();
+            assertNull(configBean.getBuildFolder());
+
+            configBean.setBuildFolder("buildFolder");
+            assertEquals(new File("buildFolder"), configBean.getBuildFolder());
+        }
+
+        @Test
+        void testSetCatalogCacheSize() {
+            ConfigBean configBean = new ConfigBean();
+            assertEquals(512, configBean.getCatalogCacheSizeMb());
+
+            configBean.setCatalogCacheSizeMb(0);
+            assertEquals(0, configBean.getCatalogCacheSizeMb());
+        }
+
+        @Test
+        void testSetDefinitionsPool() {
+            ConfigBean configBean = new ConfigBean();
+            assertFalse(configBean.isDefinitionsPool());
+
+            configBean.setDefinitionsPool(true);
+            assertTrue(configBean.isDefinitionsPool());
+        }
+
+        @Test
+        void testSetCompression() {
+            ConfigBean configBean = new ConfigBean();
+            assertFalse(configBean.isCompression());
+
+            configBean.setCompression(true);
+            assertTrue(configBean.isCompression());
+        }
+
+        @Test
+        void testSetSharded() {
+            ConfigBean configBean = new ConfigBean();
+            assertFalse(configBean.isSharded());
+
+            configBean.setSharded(true);
+            assertTrue(configBean.isSharded());
+        }
+
+        @Test
+        void testSetSmile() {
+            ConfigBean configBean = new ConfigBean();
+            assertFalse(configBean.isSmile());
+
+            configBean.setSmile(true);
+            assertTrue(configBean.isSmile());
+        }
+
+        @Test
+        void testSetCompact() {
+            ConfigBean configBean = new ConfigBean();
+            assertFalse(configBean.isCompact());
+
+            configBean.setCompact(true);
+            assertTrue(configBean.isCompact());
+        }
+}
@@ -75,6 +75,147 @@ public class GenerateCommandOptionsTest {
         assertFalse(configBean.getCatalogVersionSet().isEmpty());
     }
 
+    @Test
+    public void testConfigureWithJobsOption() throws ParseException {
+        ConfigBean configBean = new ConfigBean();
+        GenerateCommandOptions generateCommandOptions = new GenerateCommandOptions(configBean);
+        String[] args = { "-o", "outputDir", "-n", "catalogName", "-m", "mainVersion", "-j", "4" };
+
+        generateCommandOptions.configure(args);
+
+        assertEquals(4, configBean.getJobs());
+    }
+
+    @Test
+    public void testConfigureWithInvalidJobsOption() {
+        ConfigBean configBean = new ConfigBean();
+        GenerateCommandOptions generateCommandOptions = new GenerateCommandOptions(configBean);
+        String[] args = { "-o", "outputDir", "-n", "catalogName", "-m", "mainVersion", "--jobs", "zero" };
+
+        Exception exception = assertThrows(ParseException.class, () -> {
+            generateCommandOptions.configure(args);
+        });
+
+        assertTrue(exception.getMessage().contains("Invalid number of jobs"));
+    }
+
+    @Test
+    public void testConfigureWithKubernetesSchemaCacheOptions() throws ParseException {
+        ConfigBean configBean = new ConfigBean();
+        GenerateCommandOptions generateCommandOptions = new GenerateCommandOptions(configBean);
+        String[] args = { "-o", "outputDir", "-n", "catalogName", "-m", "mainVersion", "--cache-dir", "cacheDir",
+                "--k8s-schema-ttl", "48", "--k8s-schema-pinned" };
+
+        generateCommandOptions.configure(args);
+
+        assertEquals(Util.getNormalizedFolder("cacheDir"), configBean.getCacheFolder().toPath().toString());
+        assertEquals(48, configBean.getKubernetesSchemaTtlHours());
+        assertTrue(configBean.isKubernetesSchemaPinned());
+    }
+
+    @Test
+    public void testConfigureWithBuildDirOption() throws ParseException {
+        ConfigBean configBean = new ConfigBean();
+        GenerateCommandOptions generateCommandOptions = new GenerateCommandOptions(configBean);
+        String[] args = { "-o", "outputDir", "-n", "catalogName", "-m", "mainVersion", "--build-dir", "buildDir" };
+
+        generateCommandOptions.configure(args);
+
+        assertEquals(Util.getNormalizedFolder("buildDir"), configBean.getBuildFolder().toPath().toString());
+    }
+
+    @Test
+    public void testConfigureWithCatalogCacheSizeOption() throws ParseException {
+        ConfigBean configBean = new ConfigBean();
+        GenerateCommandOptions generateCommandOptions = new GenerateCommandOptions(configBean);
+        String[] args = { "-o", "outputDir", "-n", "catalogName", "-m", "mainVersion", "--catalog-cache-size", "0" };
+
+        generateCommandOptions.configure(args);
+
+        assertEquals(0, configBean.getCatalogCacheSizeMb());
+    }
+
+    @Test
+    public void testConfigureWithDefinitionsPoolOption() throws ParseException {
+        ConfigBean configBean = new ConfigBean();
+        GenerateCommandOptions generateCommandOptions = new GenerateCommandOptions(configBean);
+        String[] args = { "-o", "outputDir", "-n", "catalogName", "-m", "mainVersion", "--definitions-pool" };
+
+        generateCommandOptions.configure(args);
+
+        assertTrue(configBean.isDefinitionsPool());
+    }
+
+    @Test
+    public void testConfigureWithCompressOption() throws ParseException {
+        ConfigBean configBean = new ConfigBean();
+        GenerateCommandOptions generateCommandOptions = new GenerateCommandOptions(configBean);
+        String[] args = { "-o", "outputDir", "-n", "catalogName", "-m", "mainVersion", "--compress" };
+
+        generateCommandOptions.configure(args);
+
+        assertTrue(configBean.isCompression());
+    }
+
+    @Test
+    public void testConfigureWithShardedOption() throws ParseException {
+        ConfigBean configBean = new ConfigBean();
+        GenerateCommandOptions generateCommandOptions = new GenerateCommandOptions(configBean);
+        String[] args = { "-o", "outputDir", "-n", "catalogName", "-m", "mainVersion", "--sharded" };
+
+        generateCommandOptions.configure(args);
+
+        assertTrue(configBean.isSharded());
+    }
+
+    @Test
+    public void testConfigureWithSmileOption() throws ParseException {
+        ConfigBean configBean = new ConfigBean();
+        GenerateCommandOptions generateCommandOptions = new GenerateCommandOptions(configBean);
+        String[] args = { "-o", "outputDir", "-n", "catalogName", "-m", "mainVersion", "--smile" };
+
+        generateCommandOptions.configure(args);
+
+        assertTrue(configBean.isSmile());
+    }
+
+    @Test
+    public void testConfigureWithCompactOption() throws ParseException {
+        ConfigBean configBean = new ConfigBean();
+        GenerateCommandOptions generateCommandOptions = new GenerateCommandOptions(configBean);
+        String[] args = { "-o", "outputDir", "-n", "catalogName", "-m", "mainVersion", "--compact" };
+
+        generateCommandOptions.configure(args);
+
+        assertTrue(configBean.isCompact());
+    }
+
+    @Test
+    public void testConfigureWithInvalidKubernetesSchemaTtlOption() {
+        ConfigBean configBean = new ConfigBean();
+        GenerateCommandOptions generateCommandOptions = new GenerateCommandOptions(configBean);
+        String[] args = { "-o", "outputDir", "-n", "catalogName", "-m", "mainVersion", "--k8s-schema-ttl", "-1" };
+
+        Exception exception = assertThrows(ParseException.class, () -> {
+            generateCommandOptions.configure(args);
+        });
+
+        assertTrue(exception.getMessage().contains("Invalid Kubernetes schema TTL"));
+    }
+
+    @Test
+    public void testConfigureWithInvalidCatalogCacheSizeOption() {
+        ConfigBean configBean = new ConfigBean();
+        GenerateCommandOptions generateCommandOptions = new GenerateCommandOptions(configBean);
+        String[] args = { "-o", "outputDir", "-n", "catalogName", "-m", "mainVersion", "--catalog-cache-size", "big" };
+
+        Exception exception = assertThrows(ParseException.class, () -> {
+            generateCommandOptions.configure(args);
+        });
+
+        assertTrue(exception.getMessage().contains("Invalid catalog cache size"));
+    }
+
     @Test
     public void testConfigureWithInvalidOptions() {
         ConfigBean configBean = new ConfigBean();
@@ -15,9 +15,12 @@
  */
 package io.kaoto.camelcatalog.commands;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.kaoto.camelcatalog.beans.ConfigBean;
+import io.kaoto.camelcatalog.generator.BuildManifest;
 import io.kaoto.camelcatalog.generator.CatalogGenerator;
 import io.kaoto.camelcatalog.generator.CatalogGeneratorBuilder;
+import io.kaoto.camelcatalog.generator.GenerationReport;
 import io.kaoto.camelcatalog.model.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,16 +28,34 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 class GenerateCommandTest {
     @TempDir
     File tempDir;
 
+    @TempDir
+    File buildDir;
+
+    @TempDir
+    File cacheDir;
+
     private GenerateCommand generateCommand;
     private CatalogDefinition catalogDefinition;
+    private ConfigBean configBean;
 
     @BeforeEach
     void setUp() {
@@ -48,8 +69,10 @@ class GenerateCommandTest {
         catalogCliArg.setRuntime(CatalogRuntime.Main);
         catalogCliArg.setCatalogVersion("4.8.0");
 
-        ConfigBean configBean = new ConfigBean();
+        configBean = new ConfigBean();
         configBean.setOutputFolder(tempDir.toString());
+        configBean.setBuildFolder(buildDir.toString());
+        configBean.setCacheFolder(cacheDir.toString());
         configBean.setCatalogsName("test-camel-catalog");
         configBean.addCatalogVersion(catalogCliArg);
         configBean.setKameletsVersion("1.0.0");
@@ -57,6 +80,15 @@ class GenerateCommandTest {
         generateCommand = new GenerateCommand(configBean);
     }
 
+    private static CatalogDefinition createCatalogDefinition(String version) {
+        var definition = new CatalogDefinition();
+        definition.setFileName("index.json");
+        definition.setName("test-camel-catalog");
+        definition.setVersion(version);
+        definition.setRuntime(CatalogRuntime.Main);
+        return definition;
+    }
+
     @Test
     void testGeneratorCalledWithCorrectParameters() {
         try (var mockedBuilder = mockConstruction(CatalogGeneratorBuilder.class, (mockBuilder, context) -> {
@@ -65,6 +97,15 @@ class GenerateCommandTest {
             when(mockBuilder.withKameletsVersion(anyString())).thenCallRealMethod().thenReturn(mockBuilder);
             when(mockBuilder.withCamelKCRDsVersion(anyString())).thenCallRealMethod().thenReturn(mockBuilder);
             when(mockBuilder.withVerbose(anyBoolean())).thenCallRealMethod().thenReturn(mockBuilder);
+            when(mockBuilder.withKubernetesSchemaCache(any())).thenReturn(mockBuilder);
+            when(mockBuilder.withPreviousBuild(any())).thenReturn(mockBuilder);
+            when(mockBuilder.withContentStore(any())).thenReturn(mockBuilder);
+            when(mockBuilder.withDefinitionsPool(anyBoolean())).thenReturn(mockBuilder);
+            when(mockBuilder.withCompression(anyBoolean())).thenReturn(mockBuilder);
+            when(mockBuilder.withSharded(anyBoolean())).thenReturn(mockBuilder);
+            when(mockBuilder.withSmile(anyBoolean())).thenReturn(mockBuilder);
+            when(mockBuilder.withCompact(anyBoolean())).thenReturn(mockBuilder);
+            when(mockBuilder.withParallelism(anyInt())).thenReturn(mockBuilder);
 
             when(mockBuilder.withOutputDirectory(any(File.class))).thenReturn(mockBuilder);
             when(mockBuilder.build()).thenAnswer(invocation -> {
@@ -88,6 +129,10 @@ class GenerateCommandTest {
             /* This path will be used to relatively load the subsequent files, it always needs to use `/` */
             String expectedFile = "camel-main/4.8.0/index.json";
             assertEquals(expectedFile, catalogDefinition.getFileName());
+            assertTrue(new File(buildDir, GenerationReport.FILE_NAME).isFile());
+            /* The bookkeeping files aren't published along with the catalogs */
+            assertFalse(new File(tempDir, GenerationReport.FILE_NAME).exists());
+            assertFalse(new File(tempDir, BuildManifest.FILE_NAME).exists());
         }
     }
 
@@ -105,6 +150,15 @@ class GenerateCommandTest {
                     when(mockBuilder.withKameletsVersion(anyString())).thenCallRealMethod().thenReturn(mockBuilder);
                     when(mockBuilder.withCamelKCRDsVersion(anyString())).thenCallRealMethod().thenReturn(mockBuilder);
                     when(mockBuilder.withVerbose(anyBoolean())).thenCallRealMethod().thenReturn(mockBuilder);
+                    when(mockBuilder.withKubernetesSchemaCache(any())).thenReturn(mockBuilder);
+                    when(mockBuilder.withPreviousBuild(any())).thenReturn(mockBuilder);
+                    when(mockBuilder.withContentStore(any())).thenReturn(mockBuilder);
+                    when(mockBuilder.withDefinitionsPool(anyBoolean())).thenReturn(mockBuilder);
+                    when(mockBuilder.withCompression(anyBoolean())).thenReturn(mockBuilder);
+                    when(mockBuilder.withSharded(anyBoolean())).thenReturn(mockBuilder);
+                    when(mockBuilder.withSmile(anyBoolean())).thenReturn(mockBuilder);
+                    when(mockBuilder.withCompact(anyBoolean())).thenReturn(mockBuilder);
+                    when(mockBuilder.withParallelism(anyInt())).thenReturn(mockBuilder);
 
                     when(mockBuilder.withOutputDirectory(any(File.class))).thenReturn(mockBuilder);
                     when(mockBuilder.build()).thenAnswer(invocation -> {
@@ -141,4 +195,244 @@ class GenerateCommandTest {
             assertEquals(expectedFile, catalogLibraryEntry.fileName());
         }
     }
+
+    @Test
+    void testFailingCatalogDoesNotStopTheRemainingOnes() {
+        CatalogCliArgument failingCatalogCliArg = new CatalogCliArgument(CatalogRuntime.Quarkus, "3.15.0");
+        configBean.addCatalogVersion(failingCatalogCliArg);
+
+        try (
+                var mockedBuilder = mockConstruction(CatalogGeneratorBuilder.class, (mockBuilder, context) -> {
+                    when(mockBuilder.withRuntime(any(CatalogRuntime.class))).thenCallRealMethod().thenReturn(mockBuilder);
+                    when(mockBuilder.withCamelCatalogVersion(anyString())).thenReturn(mockBuilder);
+                    when(mockBuilder.withKameletsVersion(anyString())).thenReturn(mockBuilder);
+                    when(mockBuilder.withCamelKCRDsVersion(anyString())).thenReturn(mockBuilder);
+                    when(mockBuilder.withVerbose(anyBoolean())).thenReturn(mockBuilder);
+                    when(mockBuilder.withKubernetesSchemaCache(any())).thenReturn(mockBuilder);
+                    when(mockBuilder.withPreviousBuild(any())).thenReturn(mockBuilder);
+                    when(mockBuilder.withContentStore(any())).thenReturn(mockBuilder);
+                    when(mockBuilder.withDefinitionsPool(anyBoolean())).thenReturn(mockBuilder);
+                    when(mockBuilder.withCompression(anyBoolean())).thenReturn(mockBuilder);
+                    when(mockBuilder.withSharded(anyBoolean())).thenReturn(mockBuilder);
+                    when(mockBuilder.withSmile(anyBoolean())).thenReturn(mockBuilder);
+                    when(mockBuilder.withCompact(anyBoolean())).thenReturn(mockBuilder);
+                    when(mockBuilder.withParallelism(anyInt())).thenReturn(mockBuilder);
+                    when(mockBuilder.withOutputDirectory(any(File.class))).thenReturn(mockBuilder);
+                    when(mockBuilder.getRuntime()).thenCallRealMethod();
+                    when(mockBuilder.build()).thenAnswer(invocation -> {
+                        CatalogGenerator catalogGenerator = mock(CatalogGenerator.class);
+                        if (mockBuilder.getRuntime() == CatalogRuntime.Quarkus) {
+                            when(catalogGenerator.generate()).thenThrow(new RuntimeException("Boom"));
+                        } else {
+                            when(catalogGenerator.generate()).thenReturn(catalogDefinition);
+                        }
+                        return catalogGenerator;
+                    });
+                })
+        ) {
+            var catalogDefinitions = generateCommand.generateCatalogs(tempDir);
+
+            assertEquals(2, mockedBuilder.constructed().size());
+            assertEquals(2, catalogDefinitions.size());
+            assertEquals(catalogDefinition, catalogDefinitions.get(0));
+            assertNull(catalogDefinitions.get(1));
+        }
+    }
+
+    @Test
+    void testFailingCatalogFailsTheRun() throws Exception {
+        configBean.addCatalogVersion(new CatalogCliArgument(CatalogRuntime.Quarkus, "3.15.0"));
+
+        try (var ignored = mockConstruction(CatalogGeneratorBuilder.class, (mockBuilder, context) -> {
+            when(mockBuilder.withRuntime(any(CatalogRuntime.class))).thenCallRealMethod().thenReturn(mockBuilder);
+            when(mockBuilder.withCamelCatalogVersion(anyString())).thenReturn(mockBuilder);
+            when(mockBuilder.withKameletsVersion(anyString())).thenReturn(mockBuilder);
+            when(mockBuilder.withCamelKCRDsVersion(anyString())).thenReturn(mockBuilder);
+            when(mockBuilder.withVerbose(anyBoolean())).thenReturn(mockBuilder);
+            when(mockBuilder.withKubernetesSchemaCache(any())).thenReturn(mockBuilder);
+            when(mockBuilder.withPreviousBuild(any())).thenReturn(mockBuilder);
+            when(mockBuilder.withContentStore(any())).thenReturn(mockBuilder);
+            when(mockBuilder.withDefinitionsPool(anyBoolean())).thenReturn(mockBuilder);
+            when(mockBuilder.withCompression(anyBoolean())).thenReturn(mockBuilder);
+            when(mockBuilder.withSharded(anyBoolean())).thenReturn(mockBuilder);
+            when(mockBuilder.withSmile(anyBoolean())).thenReturn(mockBuilder);
+            when(mockBuilder.withCompact(anyBoolean())).thenReturn(mockBuilder);
+            when(mockBuilder.withParallelism(anyInt())).thenReturn(mockBuilder);
+            when(mockBuilder.withOutputDirectory(any(File.class))).thenReturn(mockBuilder);
+            when(mockBuilder.getRuntime()).thenCallRealMethod();
+            when(mockBuilder.build()).thenAnswer(invocation -> {
+                CatalogGenerator catalogGenerator = mock(CatalogGenerator.class);
+                if (mockBuilder.getRuntime() == CatalogRuntime.Quarkus) {
+                    when(catalogGenerator.generate()).thenThrow(new RuntimeException("Boom"));
+                } else {
+                    when(catalogGenerator.generate()).thenReturn(catalogDefinition);
+                }
+                return catalogGenerator;
+            });
+        })) {
+            var exception = assertThrows(RuntimeException.class, () -> generateCommand.run());
+            assertTrue(exception.getMessage().contains("Quarkus"));
+
+            /* The remaining catalogs are still published */
+            var library = new ObjectMapper().readTree(new File(tempDir, "index.json"));
+            assertEquals(1, library.get("definitions").size());
+            assertEquals("4.8.0", library.get("definitions").get(0).get("version").asText());
+        }
+    }
+
+    @Test
+    void testConcurrentCatalogsKeepTheCliOrder() {
+        configBean.addCatalogVersion(new CatalogCliArgument(CatalogRuntime.Main, "4.9.0"));
+        configBean.addCatalogVersion(new CatalogCliArgument(CatalogRuntime.Main, "4.10.0"));
+        configBean.setJobs(3);
+        var lastCatalogGenerated = new CountDownLatch(1);
+        var completedVersions = new CopyOnWriteArrayList<String>();
+
+        try (
+                var mockedBuilder = mockConstruction(CatalogGeneratorBuilder.class, (mockBuilder, context) -> {
+                    var version = new AtomicReference<String>();
+                    when(mockBuilder.withRuntime(any(CatalogRuntime.class))).thenReturn(mockBuilder);
+                    when(mockBuilder.withCamelCatalogVersion(anyString())).thenAnswer(invocation -> {
+                        version.set(invocation.getArgument(0));
+                        return mockBuilder;
+                    });
+                    when(mockBuilder.withKameletsVersion(anyString())).thenReturn(mockBuilder);
+                    when(mockBuilder.withCamelKCRDsVersion(anyString())).thenReturn(mockBuilder);
+                    when(mockBuilder.withVerbose(anyBoolean())).thenReturn(mockBuilder);
+                    when(mockBuilder.withKubernetesSchemaCache(any())).thenReturn(mockBuilder);
+                    when(mockBuilder.withPreviousBuild(any())).thenReturn(mockBuilder);
+                    when(mockBuilder.withContentStore(any())).thenReturn(mockBuilder);
+                    when(mockBuilder.withDefinitionsPool(anyBoolean())).thenReturn(mockBuilder);
+                    when(mockBuilder.withCompression(anyBoolean())).thenReturn(mockBuilder);
+                    when(mockBuilder.withSharded(anyBoolean())).thenReturn(mockBuilder);
+                    when(mockBuilder.withSmile(anyBoolean())).thenReturn(mockBuilder);
+                    when(mockBuilder.withCompact(anyBoolean())).thenReturn(mockBuilder);
+                    when(mockBuilder.withParallelism(anyInt())).thenReturn(mockBuilder);
+                    when(mockBuilder.withOutputDirectory(any(File.class))).thenReturn(mockBuilder);
+                    when(mockBuilder.build()).thenAnswer(invocation -> {
+                        CatalogGenerator catalogGenerator = mock(CatalogGenerator.class);
+                        when(catalogGenerator.generate()).thenAnswer(generateInvocation -> {
+                            switch (version.get()) {
+                                /* The first catalog only completes once the last one did */
+                                case "4.8.0" -> {
+                                    assertTrue(lastCatalogGenerated.await(10, TimeUnit.SECONDS));
+                                    completedVersions.add(version.get());
+                                }
+                                case "4.9.0" -> throw new RuntimeException("Boom");
+                                default -> {
+                                    completedVersions.add(version.get());
+                                    lastCatalogGenerated.countDown();
+                                }
+                            }
+                            return createCatalogDefinition(version.get());
+                        });
+                        return catalogGenerator;
+                    });
+                })
+        ) {
+            var catalogDefinitions = generateCommand.generateCatalogs(tempDir);
+
+            assertEquals(3, mockedBuilder.constructed().size());
+            /* The concurrent versions share the processors */
+            int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() / 3);
+            mockedBuilder.constructed().forEach(builder -> verify(builder).withParallelism(parallelism));
+            assertEquals(List.of("4.10.0", "4.8.0"), completedVersions);
+            assertEquals(3, catalogDefinitions.size());
+            assertEquals("4.8.0", catalogDefinitions.get(0).getVersion());
+            assertNull(catalogDefinitions.get(1));
+            assertEquals("4.10.0", catalogDefinitions.get(2).getVersion());
+        }
+    }
+
+    @Test
+    void testPreviousBuildIsReused() throws Exception {
+        var previousBuild = Map.of("kamelets", new BuildManifest.AggregateBuild("abc", Map.of(), Map.of()));
+        var previousManifest = new BuildManifest();
+        previousManifest.getCatalogs().put("camel-main/4.8.0", previousBuild);
+        previousManifest.getCatalogs().put("camel-main/4.7.0", previousBuild);
+        previousManifest.write(buildDir);
+        File staleCatalogFolder = new File(tempDir, "camel-main/4.7.0");
+        staleCatalogFolder.mkdirs();
+
+        try (var mockedBuilder = mockConstruction(CatalogGeneratorBuilder.class, (mockBuilder, context) -> {
+            when(mockBuilder.withRuntime(any(CatalogRuntime.class))).thenReturn(mockBuilder);
+            when(mockBuilder.withCamelCatalogVersion(anyString())).thenReturn(mockBuilder);
+            when(mockBuilder.withKameletsVersion(anyString())).thenReturn(mockBuilder);
+            when(mockBuilder.withCamelKCRDsVersion(anyString())).thenReturn(mockBuilder);
+            when(mockBuilder.withVerbose(anyBoolean())).thenReturn(mockBuilder);
+            when(mockBuilder.withKubernetesSchemaCache(any())).thenReturn(mockBuilder);
+            when(mockBuilder.withPreviousBuild(any())).thenReturn(mockBuilder);
+            when(mockBuilder.withContentStore(any())).thenReturn(mockBuilder);
+            when(mockBuilder.withDefinitionsPool(anyBoolean())).thenReturn(mockBuilder);
+            when(mockBuilder.withCompression(anyBoolean())).thenReturn(mockBuilder);
+            when(mockBuilder.withSharded(anyBoolean())).thenReturn(mockBuilder);
+            when(mockBuilder.withSmile(anyBoolean())).thenReturn(mockBuilder);
+            when(mockBuilder.withCompact(anyBoolean())).thenReturn(mockBuilder);
+            when(mockBuilder.withParallelism(anyInt())).thenReturn(mockBuilder);
+            when(mockBuilder.withOutputDirectory(any(File.class))).thenReturn(mockBuilder);
+            when(mockBuilder.build()).thenAnswer(invocation -> {
+                CatalogGenerator catalogGenerator = mock(CatalogGenerator.class);
+                when(catalogGenerator.generate()).thenReturn(catalogDefinition);
+                when(catalogGenerator.getCatalogBuild()).thenReturn(previousBuild);
+                return catalogGenerator;
+            });
+        })) {
+            generateCommand.run();
+
+            CatalogGeneratorBuilder builder = mockedBuilder.constructed().get(0);
+            verify(builder, times(1)).withPreviousBuild(previousBuild);
+
+            assertFalse(staleCatalogFolder.exists());
+            var manifest = BuildManifest.read(buildDir);
+            assertNotNull(manifest);
+            assertEquals(List.of("camel-main/4.8.0"), List.copyOf(manifest.getCatalogs().keySet()));
+        }
+    }
+
+    @Test
+    void testFailedCatalogKeepsItsPreviousBuild() throws Exception {
+        var indexEntry = new CatalogDefinitionEntry(BuildManifest.INDEX, "Index of the catalog", "4.8.0",
+                "index-abc.json");
+        var previousBuild = Map.of(BuildManifest.INDEX,
+                new BuildManifest.AggregateBuild("abc", Map.of(BuildManifest.INDEX, indexEntry), Map.of()));
+        var previousManifest = new BuildManifest();
+        previousManifest.getCatalogs().put("camel-main/4.8.0", previousBuild);
+        previousManifest.write(buildDir);
+        File previousIndexFile = new File(tempDir, "camel-main/4.8.0/index-abc.json");
+        previousIndexFile.getParentFile().mkdirs();
+        new ObjectMapper().writeValue(previousIndexFile, createCatalogDefinition("4.8.0"));
+
+        try (var ignored = mockConstruction(CatalogGeneratorBuilder.class, (mockBuilder, context) -> {
+            when(mockBuilder.withRuntime(any(CatalogRuntime.class))).thenReturn(mockBuilder);
+            when(mockBuilder.withCamelCatalogVersion(anyString())).thenReturn(mockBuilder);
+            when(mockBuilder.withKameletsVersion(anyString())).thenReturn(mockBuilder);
+            when(mockBuilder.withCamelKCRDsVersion(anyString())).thenReturn(mockBuilder);
+            when(mockBuilder.withVerbose(anyBoolean())).thenReturn(mockBuilder);
+            when(mockBuilder.withKubernetesSchemaCache(any())).thenReturn(mockBuilder);
+            when(mockBuilder.withPreviousBuild(any())).thenReturn(mockBuilder);
+            when(mockBuilder.withContentStore(any())).thenReturn(mockBuilder);
+            when(mockBuilder.withDefinitionsPool(anyBoolean())).thenReturn(mockBuilder);
+            when(mockBuilder.withCompression(anyBoolean())).thenReturn(mockBuilder);
+            when(mockBuilder.withSharded(anyBoolean())).thenReturn(mockBuilder);
+            when(mockBuilder.withSmile(anyBoolean())).thenReturn(mockBuilder);
+            when(mockBuilder.withCompact(anyBoolean())).thenReturn(mockBuilder);
+            when(mockBuilder.withParallelism(anyInt())).thenReturn(mockBuilder);
+            when(mockBuilder.withOutputDirectory(any(File.class))).thenReturn(mockBuilder);
+            when(mockBuilder.build()).thenAnswer(invocation -> {
+                CatalogGenerator catalogGenerator = mock(CatalogGenerator.class);
+                when(catalogGenerator.generate()).thenThrow(new RuntimeException("Boom"));
+                return catalogGenerator;
+            });
+        })) {
+            assertThrows(RuntimeException.class, () -> generateCommand.run());
+
+            assertTrue(previousIndexFile.exists());
+            var library = new ObjectMapper().readTree(new File(tempDir, "index.json"));
+            assertEquals("camel-main/4.8.0/index-abc.json",
+                    library.get("definitions").get(0).get("fileName").asText());
+            var manifest = BuildManifest.read(buildDir);
+            assertNotNull(manifest);
+            assertEquals(previousBuild, manifest.getCatalogs().get("camel-main/4.8.0"));
+        }
+    }
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import io.kaoto.camelcatalog.model.CatalogDefinitionEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BuildManifestTest {
+    @TempDir
+    File tempDir;
+
+    @Test
+    void shouldReadTheWrittenManifest() throws Exception {
+        var entry = new CatalogDefinitionEntry("kamelets", "Aggregated Kamelets in JSON", "4.8.0",
+                "kamelets-aggregate-123.json");
+        var manifest = new BuildManifest();
+        manifest.getCatalogs().put("camel-main/4.8.0",
+                Map.of("kamelets", new BuildManifest.AggregateBuild("abc", Map.of("kamelets", entry), Map.of())));
+
+        manifest.write(tempDir);
+        var readManifest = BuildManifest.read(tempDir);
+
+        assertNotNull(readManifest);
+        assertTrue(readManifest.isCurrentGeneratorVersion());
+        var aggregate = readManifest.getCatalogs().get("camel-main/4.8.0").get("kamelets");
+        assertEquals("abc", aggregate.fingerprint());
+        assertEquals(entry, aggregate.catalogs().get("kamelets"));
+    }
+
+    @Test
+    void shouldNotReadAMissingManifest() {
+        assertNull(BuildManifest.read(tempDir));
+    }
+
+    @Test
+    void shouldNotReuseAManifestFromAnotherGenerator() {
+        var manifest = new BuildManifest();
+        manifest.setGeneratorVersion("another-generator");
+
+        assertFalse(manifest.isCurrentGeneratorVersion());
+    }
+
+    @Test
+    void shouldComputeAStableFingerprint() throws Exception {
+        var fingerprint = BuildManifest.fingerprint(Arrays.asList("4.8.0", null, List.of("kamelet")));
+
+        assertEquals(fingerprint, BuildManifest.fingerprint(Arrays.asList("4.8.0", null, List.of("kamelet"))));
+        assertNotEquals(fingerprint, BuildManifest.fingerprint(Arrays.asList("4.9.0", null, List.of("kamelet"))));
+    }
+
+    @Test
+    void shouldFingerprintTheGeneratorClassesByContent() throws Exception {
+        var classFile = tempDir.toPath().resolve("io/kaoto/Generator.class");
+        Files.createDirectories(classFile.getParent());
+        Files.writeString(classFile, "class");
+        var version = BuildManifest.getGeneratorVersion("1.0.0", tempDir.toPath());
+
+        Files.setLastModifiedTime(classFile, FileTime.fromMillis(0));
+        assertEquals(version, BuildManifest.getGeneratorVersion("1.0.0", tempDir.toPath()));
+
+        Files.writeString(classFile, "changed");
+        assertNotEquals(version, BuildManifest.getGeneratorVersion("1.0.0", tempDir.toPath()));
+        assertNotEquals(version, BuildManifest.getGeneratorVersion("1.0.1", tempDir.toPath()));
+    }
+
+    @Test
+    void shouldFingerprintTheGeneratorJarByContent() throws Exception {
+        var jar = writeJar("first.jar", "class", 0);
+
+        assertEquals(BuildManifest.getGeneratorVersion("1.0.0", jar),
+                BuildManifest.getGeneratorVersion("1.0.0", writeJar("rebuilt.jar", "class", 1_000_000)));
+        assertNotEquals(BuildManifest.getGeneratorVersion("1.0.0", jar),
+                BuildManifest.getGeneratorVersion("1.0.0", writeJar("changed.jar", "changed", 0)));
+    }
+
+    private Path writeJar(String name, String content, long time) throws Exception {
+        var jar = tempDir.toPath().resolve(name);
+        try (var output = new ZipOutputStream(Files.newOutputStream(jar))) {
+            var entry = new ZipEntry("io/kaoto/Generator.class");
+            entry.setTime(time);
+            output.putNextEntry(entry);
+            output.write(content.getBytes(StandardCharsets.UTF_8));
+            output.closeEntry();
+        }
+        return jar;
+    }
+
+    @Test
+    void shouldCheckTheGeneratedFilesAreAvailable() throws Exception {
+        var entry = new CatalogDefinitionEntry("kamelets", "Aggregated Kamelets in JSON", "4.8.0",
+                "kamelets-aggregate-123.json");
+        var aggregate = new BuildManifest.AggregateBuild("abc", Map.of("kamelets", entry), Map.of());
+
+        assertFalse(aggregate.isAvailableIn(tempDir));
+
+        Files.writeString(tempDir.toPath().resolve(entry.file()), "{}");
+
+        assertTrue(aggregate.isAvailableIn(tempDir));
+    }
+}
@@ -29,8 +29,10 @@ import org.apache.camel.catalog.CamelCatalog;
 import org.apache.camel.catalog.DefaultCamelCatalog;
 import org.apache.camel.dsl.yaml.YamlRoutesBuilderLoader;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -40,6 +42,7 @@ import static org.junit.jupiter.api.Assertions.*;
 class CamelCatalogProcessorTest {
     private static final List<String> ALLOWED_ENUM_TYPES = List.of("integer", "number", "string");
     private final CamelCatalogProcessor processor;
+    private final CamelCatalogProcessor sharedProcessor;
 
     private final ObjectNode componentCatalog;
     private final ObjectNode dataFormatCatalog;
@@ -50,7 +53,7 @@ class CamelCatalogProcessorTest {
     private final ObjectNode loadBalancerCatalog;
     private final ObjectNode functionsCatalog;
 
-    CamelCatalogProcessorTest() throws Exception {
+    CamelCatalogProcessorTest(@TempDir Path tempDir) throws Exception {
         CamelCatalog catalog = new DefaultCamelCatalog();
         ObjectMapper jsonMapper = new ObjectMapper();
         var is = YamlRoutesBuilderLoader.class.getClassLoader().getResourceAsStream("schema/camelYamlDsl.json");
@@ -88,29 +91,52 @@ class CamelCatalogProcessorTest {
                 CatalogRuntime.Main,
                 camelCatalogVersionLoader
         );
+        this.sharedProcessor = new CamelCatalogProcessor(
+                catalog,
+                jsonMapper,
+                schemaProcessor,
+                CatalogRuntime.Main,
+                camelCatalogVersionLoader,
+                new PhaseRecorder(),
+                new ContentStore(tempDir)
+        );
 
         this.componentCatalog = (ObjectNode) jsonMapper.readTree(Util.getPrettyJSON(componentGenerator.generate()));
-        this.dataFormatCatalog = (ObjectNode) jsonMapper.readTree(this.processor.getDataFormatCatalog());
-        this.languageCatalog = (ObjectNode) jsonMapper.readTree(this.processor.getLanguageCatalog());
-        this.modelCatalog = (ObjectNode) jsonMapper.readTree(this.processor.getModelCatalog());
+        this.dataFormatCatalog = this.processor.getDataFormatCatalog();
+        this.languageCatalog = this.processor.getLanguageCatalog();
+        this.modelCatalog = this.processor.getModelCatalog();
         this.processorCatalog = (ObjectNode) jsonMapper.readTree(Util.getPrettyJSON(eipGenerator.generate()));
         this.entityCatalog = (ObjectNode) jsonMapper.readTree(Util.getPrettyJSON(entityGenerator.generate()));
-        this.loadBalancerCatalog = (ObjectNode) jsonMapper.readTree(this.processor.getLoadBalancerCatalog());
+        this.loadBalancerCatalog = this.processor.getLoadBalancerCatalog();
         this.functionsCatalog = (ObjectNode) jsonMapper.readTree(Util.getPrettyJSON(functionsGenerator.generate()));
     }
 
     @Test
     void testProcessCatalog() throws Exception {
         var catalogMap = processor.processCatalog();
-        assertEquals(Util.getPrettyJSON(this.componentCatalog), catalogMap.get("components"));
+        assertEquals(this.componentCatalog, catalogMap.get("components"));
         assertEquals(processor.getDataFormatCatalog(), catalogMap.get("dataformats"));
         assertEquals(processor.getLanguageCatalog(), catalogMap.get("languages"));
         assertEquals(processor.getModelCatalog(), catalogMap.get("models"));
-        assertEquals(Util.getPrettyJSON(this.processorCatalog), catalogMap.get("patterns"));
-        assertEquals(Util.getPrettyJSON(this.entityCatalog), catalogMap.get("entities"));
+        assertEquals(this.processorCatalog, catalogMap.get("patterns"));
+        assertEquals(this.entityCatalog, catalogMap.get("entities"));
         assertEquals(processor.getLoadBalancerCatalog(), catalogMap.get("loadbalancers"));
     }
 
+    @Test
+    void testProcessCatalogOnceForTheSameInputs() throws Exception {
+        var firstCatalogMap = sharedProcessor.processCatalog();
+        var secondCatalogMap = sharedProcessor.processCatalog();
+
+        assertEquals(processor.getModelCatalog(), firstCatalogMap.get("models"));
+        assertEquals(this.processorCatalog, firstCatalogMap.get("patterns"));
+        assertEquals(this.functionsCatalog, firstCatalogMap.get("functions"));
+        for (var name : List.of("dataformats", "languages", "models", "patterns", "entities", "loadbalancers")) {
+            assertEquals(firstCatalogMap.get(name), secondCatalogMap.get(name), name);
+            assertNotSame(firstCatalogMap.get(name), secondCatalogMap.get(name), name);
+        }
+    }
+
     @Test
     void testGetComponentCatalog() throws Exception {
         assertTrue(componentCatalog.size() > 300);
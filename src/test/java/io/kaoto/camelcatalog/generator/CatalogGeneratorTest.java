@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kaoto.camelcatalog.maven.CamelCatalogVersionLoader;
+import io.kaoto.camelcatalog.model.CatalogDefinition;
+import io.kaoto.camelcatalog.model.CatalogDefinitionEntry;
+import io.kaoto.camelcatalog.model.CatalogRuntime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+
+import static io.kaoto.camelcatalog.model.Constants.KAMELET_BOUNDARIES_KEY;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CatalogGeneratorTest {
+    @TempDir
+    File tempDir;
+
+    private CamelCatalogVersionLoader camelCatalogVersionLoader;
+    private CatalogGenerator catalogGenerator;
+
+    @BeforeEach
+    void setUp() {
+        camelCatalogVersionLoader = mock(CamelCatalogVersionLoader.class);
+        catalogGenerator = new CatalogGenerator(new CatalogGeneratorBuilder().withRuntime(CatalogRuntime.Main),
+                camelCatalogVersionLoader, tempDir);
+        catalogGenerator.setCamelCatalogVersion("4.8.0");
+    }
+
+    @Test
+    void shouldRecordTheFingerprintOfACompleteAggregate() throws Exception {
+        catalogGenerator.buildAggregate("camel-catalog", List.of("4.8.0"), new CatalogDefinition(),
+                index -> addCatalog(index, "components"));
+
+        assertNotNull(catalogGenerator.getCatalogBuild().get("camel-catalog").fingerprint());
+    }
+
+    @Test
+    void shouldNotRecordTheFingerprintOfAPartialAggregate() throws Exception {
+        var index = new CatalogDefinition();
+        catalogGenerator.buildAggregate("camel-catalog", List.of("4.8.0"), index, generated -> {
+            addCatalog(generated, "components");
+            /* e.g. one of the Kaoto catalogs failed */
+            return false;
+        });
+
+        var aggregate = catalogGenerator.getCatalogBuild().get("camel-catalog");
+        assertNull(aggregate.fingerprint());
+        assertTrue(index.getCatalogs().containsKey("components"));
+    }
+
+    @Test
+    void shouldGenerateAPartialAggregateAgain() throws Exception {
+        catalogGenerator.buildAggregate("camel-catalog", List.of("4.8.0"), new CatalogDefinition(),
+                generated -> {
+                    addCatalog(generated, "components");
+                    return false;
+                });
+        var previousBuild = Map.copyOf(catalogGenerator.getCatalogBuild());
+
+        var nextGenerator = new CatalogGenerator(new CatalogGeneratorBuilder().withRuntime(CatalogRuntime.Main),
+                mock(CamelCatalogVersionLoader.class), tempDir);
+        nextGenerator.setCamelCatalogVersion("4.8.0");
+        nextGenerator.setPreviousBuild(previousBuild);
+        nextGenerator.buildAggregate("camel-catalog", List.of("4.8.0"), new CatalogDefinition(),
+                index -> addCatalog(index, "models"));
+
+        var aggregate = nextGenerator.getCatalogBuild().get("camel-catalog");
+        assertNotNull(aggregate.fingerprint());
+        assertTrue(aggregate.catalogs().containsKey("models"));
+    }
+
+    @Test
+    void shouldGenerateASnapshotAggregateAgain() throws Exception {
+        catalogGenerator.setCamelCatalogVersion("4.9.0-SNAPSHOT");
+        catalogGenerator.buildAggregate("camel-catalog", List.of("4.9.0-SNAPSHOT"), new CatalogDefinition(),
+                index -> addCatalog(index, "components"));
+        var previousBuild = Map.copyOf(catalogGenerator.getCatalogBuild());
+
+        var nextGenerator = new CatalogGenerator(new CatalogGeneratorBuilder().withRuntime(CatalogRuntime.Main),
+                mock(CamelCatalogVersionLoader.class), tempDir);
+        nextGenerator.setCamelCatalogVersion("4.9.0-SNAPSHOT");
+        nextGenerator.setPreviousBuild(previousBuild);
+        nextGenerator.buildAggregate("camel-catalog", List.of("4.9.0-SNAPSHOT"), new CatalogDefinition(),
+                index -> addCatalog(index, "models"));
+
+        assertTrue(nextGenerator.getCatalogBuild().get("camel-catalog").catalogs().containsKey("models"));
+    }
+
+    @Test
+    void shouldReuseAnUnchangedCatalogWithoutResolvingIt() throws Exception {
+        var previousBuild = writePreviousBuild(catalogGenerator.getIndexFingerprint());
+        catalogGenerator.setPreviousBuild(previousBuild);
+
+        var catalogDefinition = catalogGenerator.generate();
+
+        assertNotNull(catalogDefinition);
+        assertEquals("Camel Main 4.8.0", catalogDefinition.getName());
+        assertEquals("index-123.json", catalogDefinition.getFileName());
+        assertEquals(previousBuild, catalogGenerator.getCatalogBuild());
+        verify(camelCatalogVersionLoader, never()).resolveDependencies(any(), any(), any());
+    }
+
+    @Test
+    void shouldResolveAChangedCatalog() throws Exception {
+        catalogGenerator.setPreviousBuild(writePreviousBuild("another-fingerprint"));
+
+        catalogGenerator.generate();
+
+        verify(camelCatalogVersionLoader).resolveDependencies(eq("4.8.0"), any(), any());
+    }
+
+    @Test
+    void shouldNotRecordTheFingerprintOfUnwrittenKamelets() throws Exception {
+        /* The content store can't be created, so no file can be written */
+        var blockedStore = Files.writeString(tempDir.toPath().resolve("blocked"), "");
+        catalogGenerator.setContentStore(new ContentStore(blockedStore));
+        when(camelCatalogVersionLoader.getKameletBoundaries()).thenReturn(List.of("metadata:\n  name: test\n"));
+
+        catalogGenerator.generate();
+
+        var aggregate = catalogGenerator.getCatalogBuild().get(KAMELET_BOUNDARIES_KEY);
+        assertNotNull(aggregate);
+        assertNull(aggregate.fingerprint());
+        assertTrue(aggregate.catalogs().isEmpty());
+    }
+
+    private Map<String, BuildManifest.AggregateBuild> writePreviousBuild(String indexFingerprint) throws Exception {
+        var index = new CatalogDefinition();
+        index.setName("Camel Main 4.8.0");
+        index.setVersion("4.8.0");
+        index.setRuntime(CatalogRuntime.Main);
+        addCatalog(index, "components");
+        new ObjectMapper().writeValue(tempDir.toPath().resolve("index-123.json").toFile(), index);
+
+        return Map.of(
+                "camel-catalog-aggregate", new BuildManifest.AggregateBuild("abc", index.getCatalogs(), Map.of()),
+                "index", new BuildManifest.AggregateBuild(indexFingerprint,
+                        Map.of("index", new CatalogDefinitionEntry("index", "index", "4.8.0", "index-123.json")),
+                        Map.of()));
+    }
+
+    private boolean addCatalog(CatalogDefinition index, String name) {
+        try {
+            var file = Files.writeString(tempDir.toPath().resolve(name + ".json"), "{}");
+            index.getCatalogs().put(name, new CatalogDefinitionEntry(name, name, "4.8.0",
+                    file.getFileName().toString()));
+            return true;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogShardWriterTest {
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldWriteEveryEntryAndTheirIndex() throws Exception {
+        var catalog = jsonMapper.createObjectNode();
+        catalog.putObject("activemq").putObject("component")
+                .put("title", "ActiveMQ 5.x")
+                .put("label", "messaging, jms");
+        catalog.putObject("log").putObject("component")
+                .put("title", "Log")
+                .put("label", "core,monitoring");
+        var writer = new CatalogShardWriter(jsonMapper, new HashedFileWriter(jsonMapper, tempDir));
+
+        var indexFileName = writer.write("components", "camel-catalog-aggregate-components-shards", catalog);
+
+        var index = jsonMapper.readTree(tempDir.resolve(indexFileName).toFile());
+        assertEquals(List.of("activemq", "log"), List.copyOf(index.properties()).stream().map(Map.Entry::getKey).toList());
+
+        var activemq = index.get("activemq");
+        assertEquals("ActiveMQ 5.x", activemq.get("title").asText());
+        assertEquals(List.of("messaging", "jms"), jsonMapper.convertValue(activemq.get("labels"), List.class));
+        assertTrue(activemq.get("file").asText().startsWith("components-activemq-"));
+
+        var shardFile = tempDir.resolve(activemq.get("file").asText());
+        assertEquals(catalog.get("activemq"), jsonMapper.readTree(shardFile.toFile()));
+        assertEquals(Files.size(shardFile), activemq.get("size").asLong());
+        assertEquals(Util.generateHash(Files.readAllBytes(shardFile)), activemq.get("hash").asText());
+    }
+
+    @Test
+    void shouldIndexTheKameletTitleAndLabels() throws Exception {
+        var catalog = jsonMapper.createObjectNode();
+        var kamelet = catalog.putObject("aws-s3-source");
+        kamelet.putObject("metadata").putObject("labels").put("camel.apache.org/kamelet.type", "source");
+        kamelet.putObject("spec").putObject("definition").put("title", "AWS S3 Source");
+        var writer = new CatalogShardWriter(jsonMapper, new HashedFileWriter(jsonMapper, tempDir));
+
+        var index = jsonMapper.readTree(
+                tempDir.resolve(writer.write("kamelets", "kamelets-aggregate-shards", catalog)).toFile());
+
+        assertEquals("AWS S3 Source", index.at("/aws-s3-source/title").asText());
+        assertEquals("source", index.at("/aws-s3-source/labels/0").asText());
+    }
+
+    @Test
+    void shouldKeepTheShardFileNamesSafe() throws Exception {
+        var catalog = jsonMapper.createObjectNode();
+        catalog.putObject("route/configuration");
+        var writer = new CatalogShardWriter(jsonMapper, new HashedFileWriter(jsonMapper, tempDir));
+
+        var indexFile = tempDir.resolve(writer.write("entities", "entities-shards", catalog));
+
+        var shardFiles = CatalogShardWriter.readShardFiles(indexFile);
+        assertEquals(1, shardFiles.size());
+        assertTrue(shardFiles.get(0).getFileName().toString().startsWith("entities-route_configuration-"));
+        assertTrue(Files.isRegularFile(shardFiles.get(0)));
+    }
+}
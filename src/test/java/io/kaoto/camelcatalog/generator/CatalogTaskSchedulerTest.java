@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogTaskSchedulerTest {
+
+    @Test
+    void shouldKeepTheInsertionOrder() throws Exception {
+        var slowTaskLatch = new CountDownLatch(1);
+        var scheduler = new CatalogTaskScheduler<String>()
+                .addTask("slow", () -> {
+                    assertTrue(slowTaskLatch.await(5, TimeUnit.SECONDS));
+                    return "slow-result";
+                })
+                .addTask("fast", () -> {
+                    slowTaskLatch.countDown();
+                    return "fast-result";
+                });
+
+        var results = scheduler.run(2);
+
+        assertEquals(List.of("slow", "fast"), List.copyOf(results.keySet()));
+        assertEquals("slow-result", results.get("slow"));
+        assertEquals("fast-result", results.get("fast"));
+    }
+
+    @Test
+    void shouldProvideTheDependenciesResults() throws Exception {
+        var scheduler = new CatalogTaskScheduler<String>()
+                .addTask("first", () -> "a")
+                .addTask("second", () -> "b")
+                .addTask("combined", List.of("first", "second"),
+                        inputs -> inputs.get("first") + inputs.get("second"));
+
+        var results = scheduler.run(4);
+
+        assertEquals("ab", results.get("combined"));
+    }
+
+    @Test
+    void shouldRunSequentiallyWithASingleThread() throws Exception {
+        var scheduler = new CatalogTaskScheduler<String>()
+                .addTask("first", () -> Thread.currentThread().getName())
+                .addTask("second", () -> Thread.currentThread().getName());
+
+        var results = scheduler.run(1);
+
+        assertEquals(results.get("first"), results.get("second"));
+    }
+
+    @Test
+    void shouldRejectUnknownDependencies() {
+        var scheduler = new CatalogTaskScheduler<String>();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> scheduler.addTask("task", List.of("missing"), inputs -> "value"));
+    }
+
+    @Test
+    void shouldRejectDuplicatedTasks() {
+        var scheduler = new CatalogTaskScheduler<String>().addTask("task", () -> "value");
+
+        assertThrows(IllegalArgumentException.class, () -> scheduler.addTask("task", () -> "value"));
+    }
+
+    @Test
+    void shouldRethrowTheTaskException() {
+        var scheduler = new CatalogTaskScheduler<String>()
+                .addTask("ok", () -> "value")
+                .addTask("failing", () -> {
+                    throw new IOException("Boom");
+                });
+
+        var exception = assertThrows(IOException.class, () -> scheduler.run(2));
+        assertEquals("Boom", exception.getMessage());
+    }
+}
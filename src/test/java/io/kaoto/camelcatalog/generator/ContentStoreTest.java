@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentStoreTest {
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldBuildTheSameAggregateOnce() throws Exception {
+        var contentStore = new ContentStore(tempDir);
+        var builds = new AtomicInteger();
+        var aggregate = new BuildManifest.AggregateBuild("abc", Map.of(), Map.of());
+
+        var firstAggregate = contentStore.getOrBuild("kamelets:abc", () -> {
+            builds.incrementAndGet();
+            return aggregate;
+        });
+        var secondAggregate = contentStore.getOrBuild("kamelets:abc", () -> {
+            builds.incrementAndGet();
+            return aggregate;
+        });
+
+        assertSame(firstAggregate, secondAggregate);
+        assertEquals(1, builds.get());
+    }
+
+    @Test
+    void shouldRetryAFailedAggregate() throws Exception {
+        var contentStore = new ContentStore(tempDir);
+        var aggregate = new BuildManifest.AggregateBuild("abc", Map.of(), Map.of());
+
+        assertThrows(IOException.class, () -> contentStore.getOrBuild("kamelets:abc", () -> {
+            throw new IOException("Cannot write the kamelets");
+        }));
+
+        assertSame(aggregate, contentStore.getOrBuild("kamelets:abc", () -> aggregate));
+    }
+
+    @Test
+    void shouldProcessTheSameCatalogOnce() throws Exception {
+        var contentStore = new ContentStore(tempDir);
+        var processings = new AtomicInteger();
+        var catalog = jsonMapper.createObjectNode();
+        catalog.putObject("log").put("title", "Log");
+
+        var expectedCatalog = catalog.deepCopy();
+
+        var firstCatalog = contentStore.getOrProcess("models:abc", () -> {
+            processings.incrementAndGet();
+            return catalog;
+        });
+        var secondCatalog = contentStore.getOrProcess("models:abc", () -> {
+            processings.incrementAndGet();
+            return catalog;
+        });
+        firstCatalog.withObject("/log").put("title", "Changed");
+
+        assertEquals(expectedCatalog, secondCatalog);
+        assertNotSame(firstCatalog, secondCatalog);
+        assertEquals(1, processings.get());
+    }
+
+    @Test
+    void shouldReleaseTheCatalogOnceEveryCatalogGotIt() throws Exception {
+        var contentStore = new ContentStore(tempDir, null, 2);
+        var processings = new AtomicInteger();
+        Callable<ObjectNode> processor = () -> {
+            processings.incrementAndGet();
+            return jsonMapper.createObjectNode();
+        };
+
+        contentStore.getOrProcess("models:abc", processor);
+        contentStore.getOrProcess("models:abc", processor);
+        assertEquals(1, processings.get());
+
+        contentStore.getOrProcess("models:abc", processor);
+        assertEquals(2, processings.get());
+    }
+
+    @Test
+    void shouldNotKeepTheCatalogOfASingleCatalog() throws Exception {
+        var contentStore = new ContentStore(tempDir, null, 1);
+        var processings = new AtomicInteger();
+        var catalog = jsonMapper.createObjectNode();
+
+        var processedCatalog = contentStore.getOrProcess("models:abc", () -> {
+            processings.incrementAndGet();
+            return catalog;
+        });
+        contentStore.getOrProcess("models:abc", () -> {
+            processings.incrementAndGet();
+            return catalog;
+        });
+
+        assertSame(catalog, processedCatalog);
+        assertEquals(2, processings.get());
+    }
+
+    @Test
+    void shouldNotKeepTheCatalogServedByTheProcessingCache() throws Exception {
+        var cacheDirectory = tempDir.resolve("cache");
+        var contentStore = new ContentStore(tempDir, new ProcessingCache(cacheDirectory, 1024 * 1024), 3);
+        var processings = new AtomicInteger();
+        Callable<ObjectNode> processor = () -> {
+            processings.incrementAndGet();
+            return jsonMapper.createObjectNode();
+        };
+
+        contentStore.getOrProcess("models:abc", processor);
+        contentStore.getOrProcess("models:abc", processor);
+        assertEquals(1, processings.get());
+
+        /* Without the cached catalog, it's processed again as the store didn't keep it */
+        try (var files = Files.list(cacheDirectory)) {
+            for (var file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        contentStore.getOrProcess("models:abc", processor);
+        assertEquals(2, processings.get());
+    }
+
+    @Test
+    void shouldReuseTheCatalogProcessedByAPreviousRun() throws Exception {
+        var processingCache = new ProcessingCache(tempDir.resolve("cache"), 1024 * 1024);
+        var processings = new AtomicInteger();
+        var catalog = jsonMapper.createObjectNode();
+        catalog.putObject("log").put("title", "Log");
+
+        new ContentStore(tempDir.resolve("first"), processingCache).getOrProcess("models:abc", () -> {
+            processings.incrementAndGet();
+            return catalog;
+        });
+        var cachedCatalog = new ContentStore(tempDir.resolve("second"), processingCache)
+                .getOrProcess("models:abc", () -> {
+                    processings.incrementAndGet();
+                    return catalog;
+                });
+
+        assertEquals(catalog, cachedCatalog);
+        assertEquals(1, processings.get());
+    }
+
+    @Test
+    void shouldRemoveTheUnreferencedFiles() throws Exception {
+        var contentStore = new ContentStore(tempDir);
+        var referencedFile = Files.writeString(tempDir.resolve("kamelets-aggregate-123.json"), "{}");
+        var unreferencedFile = Files.writeString(tempDir.resolve("kamelets-aggregate-456.json"), "{}");
+
+        contentStore.retainOnly(List.of(tempDir.resolve("camel-main/4.8.0/../../kamelets-aggregate-123.json")));
+
+        assertTrue(Files.exists(referencedFile));
+        assertFalse(Files.exists(unreferencedFile));
+    }
+}
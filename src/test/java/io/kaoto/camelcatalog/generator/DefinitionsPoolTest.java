@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DefinitionsPoolTest {
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+
+    @Test
+    void shouldPoolTheDefinitionsAndRelocateTheRefs() throws Exception {
+        var catalog = (ObjectNode) jsonMapper.readTree("""
+                {
+                  "setBody": {
+                    "propertiesSchema": {
+                      "properties": { "expression": { "$ref": "#/definitions/Expression" } },
+                      "definitions": {
+                        "Expression": { "properties": { "simple": { "$ref": "#/definitions/Simple" } } },
+                        "Simple": { "type": "object" }
+                      }
+                    }
+                  },
+                  "log": { "propertiesSchema": { "properties": { "message": { "type": "string" } } } }
+                }
+                """);
+        var pool = new DefinitionsPool(jsonMapper);
+
+        assertTrue(DefinitionsPool.hasDefinitions(catalog));
+        pool.addCatalog(catalog);
+        pool.relocateRefs("definitions-123.json");
+
+        var schema = catalog.get("setBody").get("propertiesSchema");
+        assertFalse(schema.has("definitions"));
+        assertEquals("definitions-123.json#/definitions/Expression",
+                schema.get("properties").get("expression").get("$ref").asText());
+
+        var poolDocument = pool.toJson();
+        assertEquals(List.of("Expression", "Simple"),
+                poolDocument.get("definitions").properties().stream().map(Map.Entry::getKey).toList());
+        assertEquals("#/definitions/Simple",
+                poolDocument.at("/definitions/Expression/properties/simple/$ref").asText());
+    }
+
+    @Test
+    void shouldKeepConflictingDefinitionsInlined() throws Exception {
+        var firstCatalog = (ObjectNode) jsonMapper.readTree("""
+                { "marshal": { "propertiesSchema": {
+                    "properties": { "header": { "$ref": "#/definitions/Header" } },
+                    "definitions": { "Header": { "type": "object" } } } } }
+                """);
+        var secondCatalog = (ObjectNode) jsonMapper.readTree("""
+                { "unmarshal": { "propertiesSchema": {
+                    "properties": { "header": { "$ref": "#/definitions/Header" } },
+                    "definitions": { "Header": { "type": "object", "required": ["name"] } } } } }
+                """);
+        var pool = new DefinitionsPool(jsonMapper);
+
+        pool.addCatalog(firstCatalog);
+        pool.addCatalog(secondCatalog);
+        pool.relocateRefs("definitions-123.json");
+
+        var conflictingSchema = secondCatalog.get("unmarshal").get("propertiesSchema");
+        assertTrue(conflictingSchema.has("definitions"));
+        assertEquals("#/definitions/Header", conflictingSchema.at("/properties/header/$ref").asText());
+        assertEquals("definitions-123.json#/definitions/Header",
+                firstCatalog.at("/marshal/propertiesSchema/properties/header/$ref").asText());
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileCompressorTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldWriteACompressedCopyNextToTheFile() throws Exception {
+        var content = "{ \"name\": \"kamelet\" }\n".repeat(1000);
+        var file = Files.writeString(tempDir.resolve("kamelets-aggregate-123.json"), content);
+        var fileCompressor = new FileCompressor(Runnable::run);
+
+        var compressedFile = fileCompressor.getCompressedFiles(file).get(FileCompressor.GZIP);
+
+        var compressedPath = tempDir.resolve("kamelets-aggregate-123.json.gz");
+        assertEquals("kamelets-aggregate-123.json.gz", compressedFile.file());
+        assertEquals(Files.size(compressedPath), compressedFile.size());
+        assertTrue(compressedFile.size() < content.length() / 10);
+        assertEquals(Util.generateHash(Files.readAllBytes(compressedPath)), compressedFile.hash());
+        try (var inputStream = new GZIPInputStream(Files.newInputStream(compressedPath))) {
+            assertEquals(content, new String(inputStream.readAllBytes()));
+        }
+    }
+
+    @Test
+    void shouldCompressEveryFileOnce() throws Exception {
+        var file = Files.writeString(tempDir.resolve("index-123.json"), "{}");
+        var fileCompressor = new FileCompressor(Runnable::run);
+
+        assertSame(fileCompressor.compress(file), fileCompressor.compress(tempDir.resolve("./index-123.json")));
+    }
+
+    @Test
+    void shouldNotFailWhenTheFileCannotBeCompressed() {
+        var fileCompressor = new FileCompressor(Runnable::run);
+
+        assertTrue(fileCompressor.getCompressedFiles(tempDir.resolve("missing.json")).isEmpty());
+    }
+}
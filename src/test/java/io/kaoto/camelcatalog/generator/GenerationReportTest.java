@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GenerationReportTest {
+    @TempDir
+    File tempDir;
+
+    @Test
+    void shouldWriteThePhasesOfEveryCatalog() throws Exception {
+        var phaseRecorder = new PhaseRecorder();
+        phaseRecorder.measure("loadKamelets", () -> {
+        });
+        var report = new GenerationReport();
+        report.addCatalog("camel-main/4.8.0", phaseRecorder.getPhases());
+
+        report.write(tempDir);
+
+        var reportNode = new ObjectMapper().readTree(new File(tempDir, GenerationReport.FILE_NAME));
+        assertEquals(BuildManifest.getCurrentGeneratorVersion(), reportNode.get("generatorVersion").asText());
+        var phaseNode = reportNode.get("catalogs").get("camel-main/4.8.0").get(0);
+        assertEquals("loadKamelets", phaseNode.get("name").asText());
+        assertTrue(phaseNode.has("wallNanos"));
+        assertTrue(phaseNode.has("cpuNanos"));
+        assertTrue(phaseNode.has("allocatedBytes"));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kaoto.camelcatalog.model.CatalogDefinition;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedFileWriterTest {
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldNameTheFileAfterTheContentHash() throws Exception {
+        var node = jsonMapper.createObjectNode().put("name", "café");
+        var writer = new HashedFileWriter(jsonMapper, tempDir);
+
+        var fileName = writer.writeJson("catalog", node);
+
+        var expectedContent = Util.getPrettyJSON(node);
+        assertEquals("catalog-" + Util.generateHash(expectedContent.getBytes(StandardCharsets.UTF_8)) + ".json",
+                fileName);
+        assertEquals(expectedContent, Files.readString(tempDir.resolve(fileName)));
+    }
+
+    @Test
+    void shouldNotLeaveTemporaryFiles() throws Exception {
+        var writer = new HashedFileWriter(jsonMapper, tempDir);
+
+        var fileName = writer.writeJson("catalog", jsonMapper.createObjectNode());
+
+        try (var files = Files.list(tempDir)) {
+            assertEquals(List.of(tempDir.resolve(fileName)), files.toList());
+        }
+    }
+
+    @Test
+    void shouldHashTheUtf8Bytes() throws Exception {
+        var writer = new HashedFileWriter(jsonMapper, tempDir);
+
+        var fileName = writer.writeString("schema", "{\"name\":\"café\"}");
+
+        var writtenBytes = Files.readAllBytes(tempDir.resolve(fileName));
+        assertEquals("schema-" + Util.generateHash(writtenBytes) + ".json", fileName);
+        assertEquals("{\"name\":\"café\"}", new String(writtenBytes, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldWriteTheValueOnce() throws Exception {
+        var writer = new HashedFileWriter(jsonMapper, tempDir);
+        var value = new CatalogDefinition();
+        value.setName("Camel Main 4.8.0");
+
+        var fileName = writer.writeValue("index", value);
+
+        var writtenBytes = Files.readAllBytes(tempDir.resolve(fileName));
+        assertEquals("index-" + Util.generateHash(writtenBytes) + ".json", fileName);
+        assertEquals(jsonMapper.writerWithDefaultPrettyPrinter().writeValueAsString(value),
+                new String(writtenBytes, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldWriteMinifiedJson() throws Exception {
+        var node = jsonMapper.createObjectNode().put("name", "log");
+        var writer = new HashedFileWriter(jsonMapper, tempDir, null, JsonWriterFactory.COMPACT);
+
+        var fileName = writer.writeJson("catalog", node);
+
+        assertEquals("{\"name\":\"log\"}", Files.readString(tempDir.resolve(fileName)));
+    }
+
+    @Test
+    void shouldRecordAFileWriteEvent() throws Exception {
+        var writer = new HashedFileWriter(jsonMapper, tempDir);
+        var recordingFile = tempDir.resolve("file-write.jfr");
+
+        String fileName;
+        try (var recording = new Recording()) {
+            recording.enable("io.kaoto.camelcatalog.FileWrite");
+            recording.start();
+            fileName = writer.writeString("schema", "{}");
+            writer.writeString("schema", "{}");
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        var events = RecordingFile.readAllEvents(recordingFile);
+        assertEquals(2, events.size());
+        assertEquals(fileName, events.get(0).getString("fileName"));
+        assertEquals(2, events.get(0).getLong("size"));
+        assertTrue(events.get(0).getLong("hashTime") >= 0);
+        assertFalse(events.get(0).getBoolean("reused"));
+        assertTrue(events.get(1).getBoolean("reused"));
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import org.apache.camel.catalog.DefaultCamelCatalog;
+import org.apache.camel.tooling.model.EipModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ModelOptionsIndexTest {
+    private EipModel aggregateModel;
+
+    @BeforeEach
+    void setUp() {
+        aggregateModel = new DefaultCamelCatalog().eipModel("aggregate");
+    }
+
+    @Test
+    void shouldLookUpTheOptionsByName() {
+        var index = new ModelOptionsIndex<>(aggregateModel.getOptions());
+
+        var expectedOption = aggregateModel.getOptions().stream()
+                .filter(option -> option.getName().equals("completionSize")).findFirst().orElseThrow();
+        assertSame(expectedOption, index.getOption("completionSize"));
+        assertEquals(expectedOption.getIndex(), index.getIndex("completionSize"));
+    }
+
+    @Test
+    void shouldPlaceUnknownOptionsLast() {
+        var index = new ModelOptionsIndex<>(aggregateModel.getOptions());
+
+        assertNull(index.getOption("non-existing"));
+        assertEquals(Integer.MAX_VALUE, index.getIndex("non-existing"));
+    }
+}
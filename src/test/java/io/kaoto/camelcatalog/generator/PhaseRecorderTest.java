@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PhaseRecorderTest {
+    private final PhaseRecorder phaseRecorder = new PhaseRecorder();
+
+    @Test
+    void shouldRecordThePhaseAndReturnItsResult() {
+        var result = phaseRecorder.measure("loadCamelCatalog", () -> new byte[1024 * 1024].length);
+
+        assertEquals(1024 * 1024, result);
+        var phases = phaseRecorder.getPhases();
+        assertEquals(1, phases.size());
+        var phase = phases.get(0);
+        assertEquals("loadCamelCatalog", phase.name());
+        assertEquals(Thread.currentThread().getName(), phase.thread());
+        assertTrue(phase.wallNanos() >= 0);
+        assertTrue(phase.cpuNanos() >= -1);
+        assertTrue(phase.allocatedBytes() == -1 || phase.allocatedBytes() >= 1024 * 1024);
+    }
+
+    @Test
+    void shouldRecordAFailingPhase() {
+        var exception = assertThrows(IOException.class, () -> phaseRecorder.measure("processKamelets", () -> {
+            throw new IOException("Cannot write the Kamelets");
+        }));
+
+        assertEquals("Cannot write the Kamelets", exception.getMessage());
+        assertEquals("processKamelets", phaseRecorder.getPhases().get(0).name());
+    }
+
+    @Test
+    void shouldSortThePhasesByStart() throws Exception {
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            phaseRecorder.measure("processCatalog", () -> {
+                executor.submit(() -> phaseRecorder.measure("processCatalog/models", () -> {
+                })).get();
+            });
+        } finally {
+            executor.shutdown();
+        }
+
+        var phases = phaseRecorder.getPhases();
+        assertEquals("processCatalog", phases.get(0).name());
+        assertEquals("processCatalog/models", phases.get(1).name());
+        assertNotEquals(phases.get(0).thread(), phases.get(1).thread());
+        assertTrue(phases.get(0).wallNanos() >= phases.get(1).wallNanos());
+    }
+}
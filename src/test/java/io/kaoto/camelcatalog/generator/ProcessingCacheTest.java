@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProcessingCacheTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldGetTheStoredCatalog() {
+        var processingCache = new ProcessingCache(tempDir, 1024);
+
+        processingCache.put("models:abc", bytes("{\"log\":{}}"));
+
+        assertArrayEquals(bytes("{\"log\":{}}"), processingCache.get("models:abc"));
+        assertTrue(Files.isRegularFile(tempDir.resolve("models-abc.json")));
+    }
+
+    @Test
+    void shouldNotGetAMissingCatalog() {
+        var processingCache = new ProcessingCache(tempDir.resolve("missing"), 1024);
+
+        assertNull(processingCache.get("models:abc"));
+    }
+
+    @Test
+    void shouldRemoveTheLeastRecentlyUsedCatalogs() throws Exception {
+        var processingCache = new ProcessingCache(tempDir, 25);
+        processingCache.put("models:abc", bytes("0123456789"));
+        processingCache.put("languages:abc", bytes("0123456789"));
+        Files.setLastModifiedTime(tempDir.resolve("models-abc.json"), FileTime.from(Instant.now().minusSeconds(60)));
+        Files.setLastModifiedTime(tempDir.resolve("languages-abc.json"),
+                FileTime.from(Instant.now().minusSeconds(120)));
+
+        /* Reading the languages catalog makes the models one the least recently used */
+        assertNotNull(processingCache.get("languages:abc"));
+        processingCache.put("patterns:abc", bytes("0123456789"));
+
+        assertNull(processingCache.get("models:abc"));
+        assertNotNull(processingCache.get("languages:abc"));
+        assertNotNull(processingCache.get("patterns:abc"));
+    }
+
+    @Test
+    void shouldOnlyListTheCacheOnceUntilItsFull() throws Exception {
+        var processingCache = new ProcessingCache(tempDir, 25);
+        processingCache.put("models:abc", bytes("0123456789"));
+
+        /* A catalog added behind its back isn't seen until the cache gets full */
+        Files.write(tempDir.resolve("other-abc.json"), bytes("0123456789"));
+        processingCache.put("languages:abc", bytes("0123456789"));
+        assertTrue(Files.exists(tempDir.resolve("other-abc.json")));
+
+        processingCache.put("patterns:abc", bytes("0123456789"));
+        try (var files = Files.list(tempDir)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+}
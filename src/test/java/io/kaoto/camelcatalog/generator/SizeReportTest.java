@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kaoto.camelcatalog.model.CatalogDefinition;
+import io.kaoto.camelcatalog.model.CatalogDefinitionEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SizeReportTest {
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldMeasureTheRawCompactAndCompressedSizes() throws Exception {
+        var node = jsonMapper.createObjectNode();
+        node.putObject("log").put("title", "Log").putArray("labels").add("core").add("monitoring");
+        var file = Files.writeString(tempDir.resolve("catalog-123.json"), Util.getPrettyJSON(node));
+
+        var fileSize = SizeReport.measureFile(file);
+
+        var compact = JsonWriterFactory.COMPACT.writeTree(jsonMapper, node).getBytes(StandardCharsets.UTF_8);
+        var compressed = new ByteArrayOutputStream();
+        try (var gzipOutputStream = new FileCompressor.BestCompressionGZIPOutputStream(compressed)) {
+            gzipOutputStream.write(compact);
+        }
+        assertEquals("catalog-123.json", fileSize.file());
+        assertEquals(Files.size(file), fileSize.raw());
+        assertEquals(compact.length, fileSize.compact());
+        assertEquals(compressed.size(), fileSize.compressed());
+        assertTrue(fileSize.compact() < fileSize.raw());
+    }
+
+    @Test
+    void shouldReportEveryFileOfTheCatalog() throws Exception {
+        var writer = new HashedFileWriter(jsonMapper, tempDir);
+        var catalogDefinition = new CatalogDefinition();
+        catalogDefinition.setName("Camel Main 4.8.0");
+        catalogDefinition.getCatalogs().put("components", new CatalogDefinitionEntry("components",
+                "Aggregated Camel catalog for components", "4.8.0",
+                writer.writeJson("components", jsonMapper.createObjectNode().put("name", "log"))));
+        catalogDefinition.getSchemas().put("camelYamlDsl", new CatalogDefinitionEntry("camelYamlDsl",
+                "Camel YAML DSL JSON schema", "4.8.0", writer.writeString("camelYamlDsl", "{ }")));
+        var indexFile = tempDir.resolve(writer.writeValue("index", catalogDefinition));
+
+        var sizeReport = new SizeReport();
+        sizeReport.addCatalog(indexFile, catalogDefinition);
+
+        var fileSizes = sizeReport.getCatalogs().get("Camel Main 4.8.0");
+        assertEquals(3, fileSizes.size());
+        assertEquals(indexFile.getFileName().toString(), fileSizes.get(0).file());
+        assertTrue(sizeReport.format().contains("Camel Main 4.8.0"));
+        assertTrue(sizeReport.format().contains("Total"));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SmileEncoderTest {
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldWriteASmileCopyNextToTheFile() throws Exception {
+        var catalog = jsonMapper.createObjectNode();
+        for (int i = 0; i < 100; i++) {
+            catalog.putObject("component-" + i).putObject("component")
+                    .put("kind", "component")
+                    .put("label", "messaging")
+                    .put("deprecated", false);
+        }
+        var content = Util.getPrettyJSON(catalog);
+        var file = Files.writeString(tempDir.resolve("camel-catalog-aggregate-components-123.json"), content);
+        var smileEncoder = new SmileEncoder(Runnable::run);
+
+        var binaryFile = smileEncoder.getBinaryFiles(file).get(SmileEncoder.SMILE);
+
+        var smilePath = tempDir.resolve("camel-catalog-aggregate-components-123.sml");
+        assertEquals("camel-catalog-aggregate-components-123.sml", binaryFile.file());
+        assertEquals(Files.size(smilePath), binaryFile.size());
+        assertTrue(binaryFile.size() < content.length() / 4);
+        assertEquals(Util.generateHash(Files.readAllBytes(smilePath)), binaryFile.hash());
+        assertEquals(catalog, new ObjectMapper(new SmileFactory()).readTree(smilePath.toFile()));
+    }
+
+    @Test
+    void shouldEncodeEveryFileOnce() throws Exception {
+        var file = Files.writeString(tempDir.resolve("index-123.json"), "{}");
+        var smileEncoder = new SmileEncoder(Runnable::run);
+
+        assertSame(smileEncoder.encode(file), smileEncoder.encode(tempDir.resolve("./index-123.json")));
+    }
+
+    @Test
+    void shouldNotFailWhenTheFileCannotBeEncoded() {
+        var smileEncoder = new SmileEncoder(Runnable::run);
+
+        assertTrue(smileEncoder.getBinaryFiles(tempDir.resolve("missing.json")).isEmpty());
+    }
+}
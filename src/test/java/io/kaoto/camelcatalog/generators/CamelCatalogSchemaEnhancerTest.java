@@ -290,6 +290,15 @@ class CamelCatalogSchemaEnhancerTest {
         assertEquals(List.of("id", "description", "disabled", "when", "otherwise", "precondition"), actualKeys);
     }
 
+    @Test
+    void shouldBuildTheOptionsIndexOncePerModel() {
+        EipModel model = camelCatalog.eipModel("choice");
+
+        assertSame(camelCatalogSchemaEnhancer.getOptionsIndex(model), camelCatalogSchemaEnhancer.getOptionsIndex(model));
+        assertNotSame(camelCatalogSchemaEnhancer.getOptionsIndex(model),
+                new CamelCatalogSchemaEnhancer(camelCatalog).getOptionsIndex(model));
+    }
+
     @Test
     void shouldGetCamelModelByJavaType() {
         EipModel setHeaderModel =
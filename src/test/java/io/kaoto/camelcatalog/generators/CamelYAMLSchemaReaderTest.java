@@ -30,6 +30,50 @@ class CamelYAMLSchemaReaderTest {
         camelYAMLSchemaReader = new CamelYAMLSchemaReader(camelYamlSchemaNode);
     }
 
+    @Test
+    void shouldResolveACopyOfTheReferencedDefinition() {
+        var refNode = camelYAMLSchemaReader.jsonMapper.createObjectNode()
+                .put("$ref", "#/items/definitions/org.apache.camel.model.ToDefinition");
+
+        var resolvedNode = camelYAMLSchemaReader.getResolvedNode(refNode);
+        var definitionNode = camelYAMLSchemaReader.camelYamlSchemaNode
+                .at("/items/definitions/org.apache.camel.model.ToDefinition");
+
+        assertEquals(definitionNode, resolvedNode);
+        assertNotSame(definitionNode, resolvedNode);
+
+        resolvedNode.remove("oneOf");
+        assertTrue(definitionNode.has("oneOf"));
+    }
+
+    @Test
+    void shouldInlineCyclicDefinitions() {
+        var refNode = camelYAMLSchemaReader.jsonMapper.createObjectNode()
+                .put("$ref", "#/items/definitions/org.apache.camel.model.app.BeanPropertiesDefinition");
+        var definitions = camelYAMLSchemaReader.jsonMapper.createObjectNode();
+
+        camelYAMLSchemaReader.addRefDefinition(refNode, definitions);
+
+        assertEquals("#/definitions/org.apache.camel.model.app.BeanPropertiesDefinition", refNode.get("$ref").asText());
+        assertTrue(definitions.has("org.apache.camel.model.app.BeanPropertiesDefinition"));
+        assertTrue(definitions.has("org.apache.camel.model.app.BeanPropertyDefinition"));
+    }
+
+    @Test
+    void shouldReuseTheInlinedDefinitionsAcrossEIPs() {
+        var firstSchema = camelYAMLSchemaReader.getEIPJSONSchema("resequence",
+                "org.apache.camel.model.ResequenceDefinition");
+        var secondSchema = camelYAMLSchemaReader.getEIPJSONSchema("resequence",
+                "org.apache.camel.model.ResequenceDefinition");
+
+        assertEquals(firstSchema, secondSchema);
+
+        /* Every EIP gets its own copy of the definitions, so they can be enhanced independently */
+        var expressionDefinition = "org.apache.camel.model.language.ExpressionDefinition";
+        assertNotSame(firstSchema.get("definitions").get(expressionDefinition),
+                secondSchema.get("definitions").get(expressionDefinition));
+    }
+
     @Test
     void shouldReturnJSONSchemaForEIP() {
         var eipName = "resequence";
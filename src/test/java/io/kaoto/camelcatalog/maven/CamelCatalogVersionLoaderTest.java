@@ -21,6 +21,8 @@ import org.apache.camel.catalog.quarkus.QuarkusRuntimeProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.spy;
 
@@ -136,4 +138,22 @@ public class CamelCatalogVersionLoaderTest {
         assertEquals("camel-yaml-dsl-starter", coords.getArtifactId());
         assertEquals("4.12.0", coords.getVersion());
     }
+
+    @Test
+    void testGetDependencies() {
+        List<MavenCoordinates> dependencies = camelCatalogVersionLoader.getDependencies("4.12.0", "4.13.0", "2.3.1");
+
+        assertEquals(List.of("camel-catalog", "camel-kamelets", "camel-k-crds", "camel-yaml-dsl"),
+                dependencies.stream().map(MavenCoordinates::getArtifactId).toList());
+        assertEquals(List.of("4.12.0", "4.13.0", "2.3.1", "4.12.0"),
+                dependencies.stream().map(MavenCoordinates::getVersion).toList());
+    }
+
+    @Test
+    void testGetDependenciesSkipsMissingVersions() {
+        List<MavenCoordinates> dependencies = camelCatalogVersionLoader.getDependencies("4.12.0", null, null);
+
+        assertEquals(List.of("camel-catalog", "camel-yaml-dsl"),
+                dependencies.stream().map(MavenCoordinates::getArtifactId).toList());
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.maven;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogSessionTest {
+    @TempDir
+    File tempDir;
+
+    @Test
+    void shouldShareTheVersionManagerWithTheCatalog() throws Exception {
+        try (var catalogSession = new CatalogSession(false)) {
+            assertSame(catalogSession.getVersionManager(), catalogSession.getCamelCatalog().getVersionManager());
+            assertTrue(catalogSession.getCamelCatalog().isCaching());
+        }
+    }
+
+    @Test
+    void shouldIsolateTheClassloaderOfEverySession() throws Exception {
+        try (var catalogSession = new CatalogSession(false); var otherSession = new CatalogSession(false)) {
+            assertNotSame(catalogSession.getVersionManager().getClassLoader(),
+                    otherSession.getVersionManager().getClassLoader());
+        }
+    }
+
+    @Test
+    void shouldReleaseTheClassloaderAndTheCatalogCaches() throws Exception {
+        var jar = new File(tempDir, "camel-catalog-4.12.0.jar");
+        try (var jarOutputStream = new JarOutputStream(new FileOutputStream(jar))) {
+            jarOutputStream.putNextEntry(new JarEntry("catalog.json"));
+            jarOutputStream.write("{}".getBytes(StandardCharsets.UTF_8));
+            jarOutputStream.closeEntry();
+        }
+        var catalogSession = new CatalogSession(false);
+        var classLoader = (KaotoOpenURLClassLoader) catalogSession.getVersionManager().getClassLoader();
+        classLoader.addURL(jar.toURI().toURL());
+        assertNotNull(classLoader.findResource("catalog.json"));
+
+        catalogSession.close();
+        catalogSession.close();
+
+        assertTrue(catalogSession.isClosed());
+        assertFalse(catalogSession.getCamelCatalog().isCaching());
+        assertNull(classLoader.findResource("catalog.json"));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.maven;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClasspathResourceIndexTest {
+    private static final String COMPONENT = "org/apache/camel/catalog/components/log.json";
+
+    @TempDir
+    File tempDir;
+
+    private ClasspathResourceIndex resourceIndex;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        resourceIndex = new ClasspathResourceIndex();
+        resourceIndex.addJar(createJar("camel-catalog-4.10.2.jar", "4.10.2"));
+        resourceIndex.addJar(createJar("camel-catalog-4.12.0.jar", "4.12.0"));
+    }
+
+    @Test
+    void shouldFindTheResourceOfTheGivenVersion() throws IOException {
+        assertEquals("4.12.0", read(resourceIndex.open(COMPONENT, "4.12.0")));
+        assertEquals("4.10.2", read(resourceIndex.open(COMPONENT, "4.10.2")));
+    }
+
+    @Test
+    void shouldNotFindAMissingResource() throws IOException {
+        assertNull(resourceIndex.open("org/apache/camel/catalog/components/timer.json", "4.12.0"));
+        assertNull(resourceIndex.open(COMPONENT, "4.8.0"));
+    }
+
+    @Test
+    void shouldPreferTheFirstAddedJar() throws IOException {
+        resourceIndex.addJar(createJar("camel-catalog-4.12.0-copy.jar", "copy"));
+
+        assertEquals("4.12.0", read(resourceIndex.open(COMPONENT, "4.12.0")));
+    }
+
+    @Test
+    void shouldIgnoreFilesWhichAreNotJars() throws IOException {
+        resourceIndex.addJar(new File(tempDir, "missing-4.12.0.jar"));
+
+        assertEquals("4.12.0", read(resourceIndex.open(COMPONENT, "4.12.0")));
+    }
+
+    @Test
+    void shouldCloseTheOpenedJars() throws IOException {
+        var inputStream = resourceIndex.open(COMPONENT, "4.12.0");
+
+        resourceIndex.close();
+
+        assertThrows(IOException.class, inputStream::read);
+        assertNull(resourceIndex.open(COMPONENT, "4.12.0"));
+    }
+
+    private File createJar(String fileName, String content) throws IOException {
+        var jar = new File(tempDir, fileName);
+        try (var jarOutputStream = new JarOutputStream(new FileOutputStream(jar))) {
+            jarOutputStream.putNextEntry(new JarEntry("org/apache/camel/catalog/components/"));
+            jarOutputStream.closeEntry();
+            jarOutputStream.putNextEntry(new JarEntry(COMPONENT));
+            jarOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+            jarOutputStream.closeEntry();
+        }
+        return jar;
+    }
+
+    private static String read(InputStream inputStream) throws IOException {
+        try (inputStream) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.maven;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JarFolderCacheTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldReadTheFolderFiles() throws Exception {
+        var jar = createJar(Map.of(
+                "kamelets/log-sink.kamelet.yaml", "name: log-sink",
+                "kamelets/sub/café.kamelet.yaml", "name: café",
+                "kamelets/README.md", "readme",
+                "other/timer-source.kamelet.yaml", "name: timer-source"));
+
+        var jarFolder = new JarFolderCache().getFolder(jar, "kamelets", ".kamelet.yaml", false);
+
+        assertEquals(Map.of("log-sink", "name: log-sink", "sub/café", "name: café"), jarFolder.files());
+        assertEquals(14 + "name: café".getBytes(StandardCharsets.UTF_8).length, jarFolder.bytes());
+    }
+
+    @Test
+    void shouldReadAJarFolderOnce() throws Exception {
+        var jar = createJar(Map.of("kamelets/log-sink.kamelet.yaml", "name: log-sink"));
+        var jarFolderCache = new JarFolderCache();
+
+        var jarFolder = jarFolderCache.getFolder(jar, "kamelets", ".kamelet.yaml", false);
+
+        assertSame(jarFolder, jarFolderCache.getFolder(jar, "kamelets", ".kamelet.yaml", false));
+        assertNotSame(jarFolder, jarFolderCache.getFolder(jar, "kamelets", ".json", false));
+    }
+
+    @Test
+    void shouldReadAReplacedJarAgain() throws Exception {
+        var jar = createJar(Map.of("kamelets/log-sink.kamelet.yaml", "name: log-sink"));
+        var jarFolderCache = new JarFolderCache();
+        jarFolderCache.getFolder(jar, "kamelets", ".kamelet.yaml", false);
+
+        createJar(Map.of("kamelets/timer-source.kamelet.yaml", "name: timer-source"));
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 1000));
+
+        var jarFolder = jarFolderCache.getFolder(jar, "kamelets", ".kamelet.yaml", false);
+        assertEquals(Map.of("timer-source", "name: timer-source"), jarFolder.files());
+    }
+
+    @Test
+    void shouldReturnNoFilesForAMissingFolder() throws Exception {
+        var jar = createJar(Map.of("other/log-sink.kamelet.yaml", "name: log-sink"));
+
+        var jarFolder = new JarFolderCache().getFolder(jar, "kamelets", ".kamelet.yaml", false);
+
+        assertTrue(jarFolder.files().isEmpty());
+        assertEquals(0, jarFolder.bytes());
+    }
+
+    private Path createJar(Map<String, String> entries) throws IOException {
+        var jar = tempDir.resolve("kamelets.jar");
+        try (var outputStream = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (var entry : entries.entrySet()) {
+                outputStream.putNextEntry(new JarEntry(entry.getKey()));
+                outputStream.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                outputStream.closeEntry();
+            }
+        }
+        return jar;
+    }
+}
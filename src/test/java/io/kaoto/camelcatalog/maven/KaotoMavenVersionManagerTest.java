@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.maven;
+
+import org.apache.camel.tooling.maven.MavenArtifact;
+import org.apache.camel.tooling.maven.MavenDownloader;
+import org.apache.camel.tooling.maven.MavenGav;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class KaotoMavenVersionManagerTest {
+    private static final String CATALOG_GAV = "org.apache.camel:camel-catalog:4.12.0";
+    private static final String YAML_DSL_GAV = "org.apache.camel:camel-yaml-dsl:4.12.0";
+
+    @TempDir
+    File tempDir;
+
+    private KaotoMavenVersionManager versionManager;
+    private MavenDownloader downloader;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        versionManager = new KaotoMavenVersionManager();
+        downloader = mock(MavenDownloader.class);
+        when(downloader.resolveArtifacts(anyList(), anySet(), anyBoolean(), anyBoolean())).thenReturn(List.of(
+                new MavenArtifact(MavenGav.parseGav(CATALOG_GAV), new File(tempDir, "camel-catalog.jar")),
+                new MavenArtifact(MavenGav.parseGav(YAML_DSL_GAV), new File(tempDir, "camel-yaml-dsl.jar"))));
+    }
+
+    @Test
+    void shouldResolveEveryArtifactInASingleRequest() throws Exception {
+        assertTrue(versionManager.resolveAll(downloader, List.of(CATALOG_GAV, YAML_DSL_GAV, CATALOG_GAV)));
+
+        verify(downloader, times(1)).resolveArtifacts(eq(List.of(CATALOG_GAV, YAML_DSL_GAV)), anySet(), eq(true),
+                eq(false));
+    }
+
+    @Test
+    void shouldNotResolveAnArtifactTwice() throws Exception {
+        versionManager.resolveAll(downloader, List.of(CATALOG_GAV, YAML_DSL_GAV));
+
+        versionManager.resolve(downloader, YAML_DSL_GAV, false, true);
+        assertTrue(versionManager.resolveAll(downloader, List.of(CATALOG_GAV)));
+
+        verify(downloader, times(1)).resolveArtifacts(anyList(), anySet(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    void shouldResolveAgainAfterAFailure() throws Exception {
+        when(downloader.resolveArtifacts(anyList(), anySet(), anyBoolean(), anyBoolean()))
+                .thenThrow(new IllegalStateException("Cannot reach the repository"));
+
+        assertFalse(versionManager.resolveAll(downloader, List.of(CATALOG_GAV)));
+        assertFalse(versionManager.resolveAll(downloader, List.of(CATALOG_GAV)));
+
+        verify(downloader, times(2)).resolveArtifacts(anyList(), anySet(), anyBoolean(), anyBoolean());
+    }
+}
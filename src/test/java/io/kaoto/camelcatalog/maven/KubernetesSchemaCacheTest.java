@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.kaoto.camelcatalog.maven;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kaoto.camelcatalog.model.Constants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KubernetesSchemaCacheTest {
+    private static final ObjectMapper jsonMapper = new ObjectMapper();
+
+    @TempDir
+    Path cacheDirectory;
+
+    private String openApiSpec;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        try (var in = getClass().getClassLoader().getResourceAsStream(Constants.K8S_V1_OPENAPI + ".json")) {
+            openApiSpec = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    void shouldPruneTheUnreferencedDefinitions() throws IOException {
+        var prunedSpec = jsonMapper.readTree(KubernetesSchemaCache.prune(openApiSpec));
+        var schemas = prunedSpec.withObject("/components/schemas");
+
+        Constants.KUBERNETES_DEFINITIONS.forEach(definition -> assertTrue(schemas.has(definition)));
+        assertTrue(schemas.has("io.k8s.apimachinery.pkg.apis.meta.v1.ManagedFieldsEntry"));
+        assertFalse(schemas.has("io.k8s.api.core.v1.Pod"));
+        assertEquals("Kubernetes", prunedSpec.at("/info/title").asText());
+    }
+
+    @Test
+    void shouldReuseTheCachedCopyWithinTheTtl() {
+        var downloads = new AtomicInteger();
+        new CountingCache(cacheDirectory, Duration.ofHours(1), downloads).getSchema();
+        var schema = new CountingCache(cacheDirectory, Duration.ofHours(1), downloads).getSchema();
+
+        assertEquals(1, downloads.get());
+        assertTrue(schema.contains("io.k8s.apimachinery.pkg.apis.meta.v1.ObjectMeta"));
+    }
+
+    @Test
+    void shouldDownloadAgainOnceTheTtlExpired() throws IOException {
+        var downloads = new AtomicInteger();
+        new CountingCache(cacheDirectory, Duration.ofHours(1), downloads).getSchema();
+        Files.setLastModifiedTime(cacheDirectory.resolve(KubernetesSchemaCache.POINTER_FILE_NAME),
+                FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+
+        new CountingCache(cacheDirectory, Duration.ofHours(1), downloads).getSchema();
+
+        assertEquals(2, downloads.get());
+    }
+
+    @Test
+    void shouldLoadTheSchemaOnlyOncePerInstance() {
+        var downloads = new AtomicInteger();
+        var cache = new CountingCache(cacheDirectory, Duration.ZERO, downloads);
+
+        assertSame(cache.getSchema(), cache.getSchema());
+        assertEquals(1, downloads.get());
+    }
+
+    @Test
+    void shouldFallbackToTheStaleCopyWhenOffline() throws IOException {
+        var schema = new CountingCache(cacheDirectory, Duration.ZERO, new AtomicInteger()).getSchema();
+
+        var offlineCache = new KubernetesSchemaCache(cacheDirectory, Duration.ZERO, false) {
+            @Override
+            String download() throws IOException {
+                throw new IOException("offline");
+            }
+        };
+
+        assertEquals(schema, offlineCache.getSchema());
+    }
+
+    @Test
+    void shouldFallbackToTheBundledSnapshotWhenOfflineAndNotCached() throws IOException {
+        var offlineCache = new KubernetesSchemaCache(cacheDirectory, Duration.ZERO, false) {
+            @Override
+            String download() throws IOException {
+                throw new IOException("offline");
+            }
+        };
+
+        var schema = jsonMapper.readTree(offlineCache.getSchema());
+
+        Constants.KUBERNETES_DEFINITIONS.forEach(
+                definition -> assertTrue(schema.withObject("/components/schemas").has(definition)));
+    }
+
+    @Test
+    void shouldNeverDownloadWhenPinned() {
+        var pinnedCache = new KubernetesSchemaCache(cacheDirectory, Duration.ZERO, true) {
+            @Override
+            String download() {
+                throw new AssertionError("Pinned cache shouldn't download");
+            }
+        };
+
+        assertNotNull(pinnedCache.getSchema());
+    }
+
+    private class CountingCache extends KubernetesSchemaCache {
+        private final AtomicInteger downloads;
+
+        CountingCache(Path cacheDirectory, Duration ttl, AtomicInteger downloads) {
+            super(cacheDirectory, ttl, false);
+            this.downloads = downloads;
+        }
+
+        @Override
+        String download() {
+            downloads.incrementAndGet();
+            return openApiSpec;
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package io.kaoto.camelcatalog.maven;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -114,6 +117,29 @@ class ResourceLoaderTest {
         assertTrue(kaotoPatterns.containsKey("kaoto-datamapper"));
     }
 
+    @Test
+    void testLoadResourcesRecordsAnEvent() throws Exception {
+        Map<String, String> kaotoPatterns = new HashMap<>();
+        resourceLoader = new ResourceLoader(new KaotoMavenVersionManager(), true);
+        Path recordingFile = Files.createTempFile("resource-load", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("io.kaoto.camelcatalog.ResourceLoad");
+            recording.start();
+            resourceLoader.loadResourcesFromFolderAsString("kaoto-patterns", kaotoPatterns, ".json");
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        Files.delete(recordingFile);
+        assertEquals(1, events.size());
+        assertEquals("kaoto-patterns", events.get(0).getString("folder"));
+        assertEquals(".json", events.get(0).getString("fileSuffix"));
+        assertEquals(kaotoPatterns.size(), events.get(0).getInt("fileCount"));
+        assertTrue(events.get(0).getLong("bytes") > 0);
+    }
+
     @Test
     void testConfigureRepositoriesAddsRedhat() {
         KaotoMavenVersionManager kaotoVersionManager = new KaotoMavenVersionManager();
@@ -2,6 +2,7 @@ package io.kaoto.camelcatalog.versions;
 
 import io.kaoto.camelcatalog.beans.ConfigBean;
 import io.kaoto.camelcatalog.commands.GenerateCommand;
+import io.kaoto.camelcatalog.generator.ContentStore;
 import io.kaoto.camelcatalog.model.CatalogCliArgument;
 import io.kaoto.camelcatalog.model.CatalogRuntime;
 import org.junit.jupiter.api.Test;
@@ -18,6 +19,9 @@ class GenerateCatalogWithRedHatVersionTest {
     @TempDir
     File tempDir;
 
+    @TempDir
+    File buildDir;
+
     @Test
     void testOK() {
         CatalogCliArgument catalogCliArg = new CatalogCliArgument();
@@ -29,6 +33,9 @@ class GenerateCatalogWithRedHatVersionTest {
         configBean.setCatalogsName("test-camel-catalog");
         configBean.addCatalogVersion(catalogCliArg);
         configBean.setKameletsVersion("1.0.0");
+        /* Nothing is left behind in the user cache */
+        configBean.setBuildFolder(buildDir.toString());
+        configBean.setCatalogCacheSizeMb(0);
 
         GenerateCommand generateCommand = new GenerateCommand(configBean);
 
@@ -37,8 +44,12 @@ class GenerateCatalogWithRedHatVersionTest {
         File catalogDir = new File(tempDir, "camel-main/4.4.0.redhat-00045");
 
         assertTrue(catalogDir.exists(), "The folder for the catalog wasn't created");
-        assertEquals(16, Objects.requireNonNull(catalogDir.listFiles()).length,
-                "The folder for the catalog doesn't contain the correct number of files");
+        assertEquals(1, Objects.requireNonNull(catalogDir.listFiles()).length,
+                "The folder for the catalog should only contain its index");
+
+        File contentStoreDir = new File(tempDir, ContentStore.FOLDER_NAME);
+        assertEquals(15, Objects.requireNonNull(contentStoreDir.listFiles()).length,
+                "The content store doesn't contain the correct number of files");
     }
 
 }